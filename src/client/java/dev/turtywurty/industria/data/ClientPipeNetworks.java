@@ -51,8 +51,7 @@ public class ClientPipeNetworks {
             if (manager == null)
                 return;
 
-            Set<PipeNetwork<?>> networks = manager.getNetworks();
-            networks.add(network);
+            manager.addNetwork(network);
         });
 
         ClientPlayNetworking.registerGlobalReceiver(RemovePipeNetworkPayload.ID, (payload, context) -> {
@@ -71,8 +70,7 @@ public class ClientPipeNetworks {
             if (manager == null)
                 return;
 
-            Set<PipeNetwork<?>> networks = manager.getNetworks();
-            networks.removeIf(pipeNetwork -> pipeNetwork.getId().equals(networkId));
+            manager.removeNetwork(networkId);
         });
 
         ClientPlayNetworking.registerGlobalReceiver(ModifyPipeNetworkPayload.ID, (payload, context) -> {
@@ -93,18 +91,16 @@ public class ClientPipeNetworks {
             if (manager == null)
                 return;
 
-            Set<PipeNetwork<?>> networks = manager.getNetworks();
-            Optional<PipeNetwork<?>> optionalNetwork = networks.stream()
-                    .filter(pipeNetwork -> pipeNetwork.getId().equals(networkId))
-                    .findFirst();
-            optionalNetwork.ifPresent(network -> {
-                switch (operation) {
-                    case ADD_PIPE -> network.addPipe(pos);
-                    case REMOVE_PIPE -> network.removePipe(pos);
-                    case ADD_CONNECTED_BLOCK -> network.getConnectedBlocks().add(pos);
-                    case REMOVE_CONNECTED_BLOCK -> network.getConnectedBlocks().remove(pos);
-                }
-            });
+            PipeNetwork<?> network = manager.getNetwork(networkId);
+            if (network == null)
+                return;
+
+            switch (operation) {
+                case ADD_PIPE -> network.addPipe(pos);
+                case REMOVE_PIPE -> network.removePipe(pos);
+                case ADD_CONNECTED_BLOCK -> network.getConnectedBlocks().add(pos);
+                case REMOVE_CONNECTED_BLOCK -> network.getConnectedBlocks().remove(pos);
+            }
         });
 
         ClientPlayConnectionEvents.DISCONNECT.register((handler, client) ->
@@ -1,14 +1,46 @@
 package dev.turtywurty.industria.init;
 
 import dev.turtywurty.industria.block.MultiblockBlock;
+import dev.turtywurty.industria.persistent.WorldFluidPocketsState;
 import dev.turtywurty.industria.renderer.world.FluidPocketWorldRenderer;
 import dev.turtywurty.industria.renderer.world.PipeNetworkWorldRenderer;
-import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
 
 public class ClientEventsInit {
     public static void init() {
-        ClientTickEvents.START_WORLD_TICK.register(world -> MultiblockBlock.SHAPE_CACHE.clear());
+        ClientChunkEvents.CHUNK_UNLOAD.register((world, chunk) ->
+                MultiblockBlock.SHAPE_CACHE.invalidateChunk(world, chunk.getPos()));
+        ClientChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            Map<UUID, WorldFluidPocketsState.FluidPocket> fluidPockets = FluidPocketWorldRenderer.FLUID_POCKETS.get(world.getRegistryKey());
+            if (fluidPockets == null)
+                return;
+
+            // The server sends the chunk's slices again if it is tracked again
+            ChunkPos chunkPos = chunk.getPos();
+            Iterator<WorldFluidPocketsState.FluidPocket> iterator = fluidPockets.values().iterator();
+            while (iterator.hasNext()) {
+                WorldFluidPocketsState.FluidPocket fluidPocket = iterator.next();
+                if (!fluidPocket.getChunks().contains(chunkPos.toLong()))
+                    continue;
+
+                fluidPocket.removeChunk(chunkPos);
+                if (fluidPocket.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+
+            if (fluidPockets.isEmpty()) {
+                FluidPocketWorldRenderer.FLUID_POCKETS.remove(world.getRegistryKey());
+            }
+        });
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> MultiblockBlock.SHAPE_CACHE.clearClient());
 
         var fluidPocketWorldRenderer = new FluidPocketWorldRenderer();
         WorldRenderEvents.AFTER_ENTITIES.register(fluidPocketWorldRenderer::render);
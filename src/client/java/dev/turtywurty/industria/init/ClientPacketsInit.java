@@ -1,14 +1,24 @@
 package dev.turtywurty.industria.init;
 
-import dev.turtywurty.industria.network.OpenSeismicScannerPayload;
-import dev.turtywurty.industria.network.SyncFluidPocketsPayload;
-import dev.turtywurty.industria.network.UpgradeStationUpdateRecipesPayload;
+import dev.turtywurty.industria.block.MultiblockBlock;
+import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.multiblock.ChunkMultiblocks;
+import dev.turtywurty.industria.network.*;
+import dev.turtywurty.industria.persistent.ChunkFluidPockets;
+import dev.turtywurty.industria.persistent.WorldFluidPocketsState;
 import dev.turtywurty.industria.renderer.world.FluidPocketWorldRenderer;
 import dev.turtywurty.industria.screen.SeismicScannerScreen;
 import dev.turtywurty.industria.screenhandler.UpgradeStationScreenHandler;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
-import net.minecraft.registry.RegistryKey;
-import net.minecraft.world.World;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 public class ClientPacketsInit {
     public static void init() {
@@ -16,9 +26,76 @@ public class ClientPacketsInit {
                 context.client().execute(() ->
                         context.client().setScreen(new SeismicScannerScreen(payload.stack()))));
 
-        ClientPlayNetworking.registerGlobalReceiver(SyncFluidPocketsPayload.ID, (payload, context) -> {
-            RegistryKey<World> worldKey = context.player().getEntityWorld().getRegistryKey();
-            FluidPocketWorldRenderer.FLUID_POCKETS.put(worldKey, payload.fluidPockets());
+        ClientPlayNetworking.registerGlobalReceiver(AddFluidPocketPayload.ID, (payload, context) -> {
+            // Each slice only covers one chunk, so it is merged into whatever the other chunks already sent
+            ChunkFluidPockets.Slice slice = payload.slice();
+            WorldFluidPocketsState.FluidPocket fluidPocket = FluidPocketWorldRenderer.FLUID_POCKETS
+                    .computeIfAbsent(payload.world(), key -> new HashMap<>())
+                    .computeIfAbsent(slice.id(), id -> new WorldFluidPocketsState.FluidPocket(id, slice.fluidState(), List.of()));
+            for (long pos : slice.positions()) {
+                fluidPocket.addPosition(pos);
+            }
+        });
+
+        ClientPlayNetworking.registerGlobalReceiver(RemoveFluidPocketPayload.ID, (payload, context) -> {
+            Map<UUID, WorldFluidPocketsState.FluidPocket> fluidPockets = FluidPocketWorldRenderer.FLUID_POCKETS.get(payload.world());
+            if (fluidPockets != null) {
+                fluidPockets.remove(payload.pocketId());
+            }
+        });
+
+        ClientPlayNetworking.registerGlobalReceiver(ModifyFluidPocketPayload.ID, (payload, context) -> {
+            Map<UUID, WorldFluidPocketsState.FluidPocket> fluidPockets = FluidPocketWorldRenderer.FLUID_POCKETS.get(payload.world());
+            if (fluidPockets == null)
+                return;
+
+            WorldFluidPocketsState.FluidPocket fluidPocket = fluidPockets.get(payload.pocketId());
+            if (fluidPocket == null)
+                return;
+
+            switch (payload.operation()) {
+                case ADD_POSITION -> fluidPocket.addPosition(payload.pos());
+                case REMOVE_POSITION -> {
+                    fluidPocket.removeIf(payload.pos());
+                    if (fluidPocket.isEmpty()) {
+                        fluidPockets.remove(payload.pocketId());
+                    }
+                }
+            }
+        });
+
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) ->
+                FluidPocketWorldRenderer.FLUID_POCKETS.clear());
+
+        ClientPlayNetworking.registerGlobalReceiver(UpdateChunkMultiblocksPayload.ID, (payload, context) -> {
+            ClientWorld world = context.client().world;
+            if (world == null)
+                return;
+
+            ChunkPos chunkPos = payload.chunkPos();
+            WorldChunk chunk = world.getChunkManager().getWorldChunk(chunkPos.x, chunkPos.z);
+            if (chunk == null)
+                return;
+
+            ChunkMultiblocks multiblocks = chunk.getAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT);
+            if (multiblocks != null) {
+                multiblocks.apply(payload.added(), payload.removed());
+            }
+
+            payload.added().keySet().forEach(pos -> MultiblockBlock.SHAPE_CACHE.invalidate(world, pos));
+            payload.removed().forEach(pos -> MultiblockBlock.SHAPE_CACHE.invalidate(world, pos));
+        });
+
+        ClientPlayNetworking.registerGlobalReceiver(BlockEntityDeltaPayload.ID, (payload, context) -> {
+            ClientWorld world = context.client().world;
+            if (world == null)
+                return;
+
+            for (BlockEntityDeltaPayload.Entry entry : payload.entries()) {
+                if (world.getBlockEntity(entry.pos()) instanceof UpdatableBlockEntity blockEntity) {
+                    blockEntity.applySyncDelta(entry, world.getRegistryManager());
+                }
+            }
         });
 
         ClientPlayNetworking.registerGlobalReceiver(UpgradeStationUpdateRecipesPayload.ID, (payload, context) -> {
@@ -16,9 +16,10 @@ import net.minecraft.world.World;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 public class FluidPocketWorldRenderer implements IndustriaWorldRenderer {
-    public static final Map<RegistryKey<World>, List<WorldFluidPocketsState.FluidPocket>> FLUID_POCKETS = new HashMap<>();
+    public static final Map<RegistryKey<World>, Map<UUID, WorldFluidPocketsState.FluidPocket>> FLUID_POCKETS = new HashMap<>();
 
     @Override
     public void render(WorldRenderContext context) {
@@ -33,6 +34,7 @@ public class FluidPocketWorldRenderer implements IndustriaWorldRenderer {
             return;
 
         List<WorldFluidPocketsState.FluidPocket> nearbyFluidPockets = FLUID_POCKETS.get(player.getEntityWorld().getRegistryKey())
+                .values()
                 .stream()
                 .filter(fluidPocket -> fluidPocket.isWithinDistance(player.getBlockPos(), 64))
                 .toList();
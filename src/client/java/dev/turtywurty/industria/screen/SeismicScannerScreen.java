@@ -17,6 +17,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.RotationAxis;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class SeismicScannerScreen extends Screen {
@@ -78,7 +79,7 @@ public class SeismicScannerScreen extends Screen {
         MatrixStack matrixStack = context.getMatrices();
         for (WorldFluidPocketsState.FluidPocket fluidPocket : this.fluidPockets) {
             BlockState blockState = fluidPocket.fluidState().getBlockState();
-            List<BlockPos> positions = fluidPocket.fluidPositions();
+            Collection<BlockPos> positions = fluidPocket.fluidPositions();
 
             int minX = fluidPocket.minX();
             int minY = fluidPocket.minY();
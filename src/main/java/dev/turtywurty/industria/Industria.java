@@ -8,8 +8,12 @@ import dev.turtywurty.gasapi.api.storage.GasStorage;
 import dev.turtywurty.heatapi.api.HeatStorage;
 import dev.turtywurty.industria.block.MultiblockBlock;
 import dev.turtywurty.industria.blockentity.*;
+import dev.turtywurty.industria.blockentity.util.BlockDropCache;
+import dev.turtywurty.industria.blockentity.util.BlockEntityDeltaSync;
+import dev.turtywurty.industria.blockentity.util.sleep.MachineSleep;
 import dev.turtywurty.industria.command.ConfigCommand;
 import dev.turtywurty.industria.command.ResetPipeNetworksCommand;
+import dev.turtywurty.industria.command.SleepingMachinesCommand;
 import dev.turtywurty.industria.config.ServerConfig;
 import dev.turtywurty.industria.fluid.FluidData;
 import dev.turtywurty.industria.init.*;
@@ -22,6 +26,7 @@ import dev.turtywurty.industria.network.*;
 import dev.turtywurty.industria.persistent.WorldFluidPocketsState;
 import dev.turtywurty.industria.persistent.WorldPipeNetworks;
 import dev.turtywurty.industria.pipe.PipeNetworkManager;
+import dev.turtywurty.industria.recipe.RecipeIndex;
 import dev.turtywurty.industria.screenhandler.BatteryScreenHandler;
 import dev.turtywurty.industria.screenhandler.DrillScreenHandler;
 import dev.turtywurty.industria.screenhandler.FluidTankScreenHandler;
@@ -30,6 +35,9 @@ import dev.turtywurty.industria.screenhandler.base.TickableScreenHandler;
 import dev.turtywurty.industria.util.ExtraPacketCodecs;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerBlockEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
@@ -200,7 +208,10 @@ public class Industria implements ModInitializer {
         // Payloads
         PayloadTypeRegistry.playC2S().register(BatteryChargeModePayload.ID, BatteryChargeModePayload.CODEC);
         PayloadTypeRegistry.playS2C().register(OpenSeismicScannerPayload.ID, OpenSeismicScannerPayload.CODEC);
-        PayloadTypeRegistry.playS2C().register(SyncFluidPocketsPayload.ID, SyncFluidPocketsPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(AddFluidPocketPayload.ID, AddFluidPocketPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(RemoveFluidPocketPayload.ID, RemoveFluidPocketPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(ModifyFluidPocketPayload.ID, ModifyFluidPocketPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(UpdateChunkMultiblocksPayload.ID, UpdateChunkMultiblocksPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(ChangeDrillingPayload.ID, ChangeDrillingPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(RetractDrillPayload.ID, RetractDrillPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(ChangeDrillOverflowModePayload.ID, ChangeDrillOverflowModePayload.CODEC);
@@ -211,6 +222,7 @@ public class Industria implements ModInitializer {
         PayloadTypeRegistry.playS2C().register(AddPipeNetworkPayload.ID, AddPipeNetworkPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(RemovePipeNetworkPayload.ID, RemovePipeNetworkPayload.CODEC);
         PayloadTypeRegistry.playS2C().register(ModifyPipeNetworkPayload.ID, ModifyPipeNetworkPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(BlockEntityDeltaPayload.ID, BlockEntityDeltaPayload.CODEC);
 
         // Packets
         ServerPlayNetworking.registerGlobalReceiver(BatteryChargeModePayload.ID, (payload, context) ->
@@ -270,27 +282,48 @@ public class Industria implements ModInitializer {
             }
         });
 
-        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
-            sender.sendPacket(WorldFluidPocketsState.createSyncPacket(handler.player.getServerWorld()));
-            WorldPipeNetworks.syncToClient(sender, handler.player.getServerWorld());
-        });
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) ->
+                WorldPipeNetworks.syncToClient(sender, handler.player.getServerWorld()));
 
         PlayerBlockBreakEvents.AFTER.register((world, player, pos, state, blockEntity) -> {
             if (!(world instanceof ServerWorld serverWorld))
                 return;
 
-            WorldFluidPocketsState serverState = WorldFluidPocketsState.getServerState(serverWorld);
-            if (serverState.removePosition(pos)) {
-                WorldFluidPocketsState.sync(serverWorld);
-            }
+            WorldFluidPocketsState.getServerState(serverWorld).removePosition(serverWorld, pos);
+        });
+
+        ServerChunkEvents.CHUNK_LOAD.register((world, chunk) ->
+                WorldFluidPocketsState.getServerState(world).onChunkLoad(chunk));
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            WorldFluidPocketsState.getServerState(world).onChunkUnload(chunk);
+            MultiblockBlock.SHAPE_CACHE.invalidateChunk(world, chunk.getPos());
         });
 
+        ServerBlockEntityEvents.BLOCK_ENTITY_UNLOAD.register((blockEntity, world) -> MachineSleep.forget(blockEntity));
+
         ServerWorldEvents.LOAD.register((server, world) -> {
             ServerConfig.onServerLoad(server);
             WorldPipeNetworks.getOrCreate(world);
+            WorldFluidPocketsState.getServerState(world).migrateLegacyState(world);
+        });
+
+        ServerWorldEvents.UNLOAD.register((server, world) -> {
+            ServerConfig.onServerSave(server);
+            MultiblockBlock.SHAPE_CACHE.clear(world);
+            BlockEntityDeltaSync.clear(world);
+            MachineSleep.clear(world);
         });
 
-        ServerWorldEvents.UNLOAD.register((server, world) -> ServerConfig.onServerSave(server));
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> {
+            RecipeIndex.invalidateAll();
+            BlockDropCache.clear();
+        });
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> {
+            RecipeIndex.invalidateAll();
+            BlockDropCache.clear();
+            BlockEntityDeltaSync.clear();
+            MachineSleep.clear();
+        });
 
         CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
             dispatcher.register(
@@ -304,11 +337,15 @@ public class Industria implements ModInitializer {
                             .requires(source -> source.hasPermissionLevel(3))
                             .then(CommandManager.literal("reset_pipe_networks").executes(ResetPipeNetworksCommand::execute).build())
             );
+
+            dispatcher.register(
+                    CommandManager.literal(Industria.MOD_ID)
+                            .requires(source -> source.hasPermissionLevel(3))
+                            .then(CommandManager.literal("sleeping_machines").executes(SleepingMachinesCommand::execute).build())
+            );
         });
 
         ServerTickEvents.START_WORLD_TICK.register(world -> {
-            MultiblockBlock.SHAPE_CACHE.clear();
-
             for (PipeNetworkManager<?, ?> manager : WorldPipeNetworks.getOrCreate(world).getPipeNetworkManagers()) {
                 manager.tick(world);
             }
@@ -320,6 +357,8 @@ public class Industria implements ModInitializer {
                     tickable.tick(player);
                 }
             }
+
+            BlockEntityDeltaSync.flush(world);
         });
 
         // Fluid Properties
@@ -1,6 +1,7 @@
 package dev.turtywurty.industria.block;
 
 import dev.turtywurty.industria.init.AttachmentTypeInit;
+import dev.turtywurty.industria.multiblock.ChunkMultiblocks;
 import dev.turtywurty.industria.multiblock.MultiblockData;
 import dev.turtywurty.industria.util.CachedVoxelShapes;
 import net.minecraft.block.Block;
@@ -22,23 +23,24 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldView;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Map;
-
 @SuppressWarnings("UnstableApiUsage")
 public class MultiblockBlock extends Block {
-    public static final CachedVoxelShapes SHAPE_CACHE = new CachedVoxelShapes((world, pos) -> {
+    public static final CachedVoxelShapes<ShapeKey> SHAPE_CACHE = new CachedVoxelShapes<>((world, pos) -> {
         MultiblockData data = getMultiblockData(world, pos);
         if (data == null || data.primaryPos() == null)
-            return VoxelShapes.empty();
+            return null;
 
         BlockState primaryState = world.getBlockState(data.primaryPos());
         Direction direction = data.type().hasDirectionProperty() ? primaryState.get(Properties.HORIZONTAL_FACING, null) : Direction.NORTH;
         if(direction == null)
             direction = Direction.NORTH;
 
-        Vec3i offset = getOffsetFromPrimary(data.primaryPos(), pos, null);
+        return new ShapeKey(data, direction);
+    }, (world, pos, key) -> {
+        BlockPos primaryPos = key.data().primaryPos();
+        Vec3i offset = getOffsetFromPrimary(primaryPos, pos, null);
 
-        VoxelShape shape = data.type().getShape(world, data.primaryPos(), direction);
+        VoxelShape shape = key.data().type().getShape(world, primaryPos, key.facing());
         return shape != null ? shape.offset(-offset.getX(), -offset.getY(), -offset.getZ()) : VoxelShapes.empty();
     });
 
@@ -65,11 +67,11 @@ public class MultiblockBlock extends Block {
     }
 
     public static MultiblockData getMultiblockData(WorldView world, BlockPos pos) {
-        Map<BlockPos, MultiblockData> map = world.getChunk(pos).getAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT);
-        if (map == null)
+        ChunkMultiblocks multiblocks = world.getChunk(pos).getAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT);
+        if (multiblocks == null)
             return null;
 
-        return map.get(pos);
+        return multiblocks.get(pos);
     }
 
     public static BlockPos getPrimaryPos(WorldView world, BlockPos pos) {
@@ -125,4 +127,12 @@ public class MultiblockBlock extends Block {
 
         return SHAPE_CACHE.getShape(worldView, pos);
     }
+
+    /**
+     * What the shape of a multiblock block depends on; the cached shape is rebuilt whenever this changes.
+     *
+     * @param data   The multiblock data at the position.
+     * @param facing The facing of the primary block.
+     */
+    public record ShapeKey(MultiblockData data, Direction facing) {}
 }
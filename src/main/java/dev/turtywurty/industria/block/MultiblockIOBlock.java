@@ -1,7 +1,9 @@
 package dev.turtywurty.industria.block;
 
+import dev.turtywurty.industria.blockentity.MultiblockIOBlockEntity;
 import dev.turtywurty.industria.blockentity.util.TickableBlockEntity;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
+import net.minecraft.block.Block;
 import net.minecraft.block.BlockEntityProvider;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
@@ -9,6 +11,7 @@ import net.minecraft.block.entity.BlockEntityTicker;
 import net.minecraft.block.entity.BlockEntityType;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
+import net.minecraft.world.block.WireOrientation;
 import org.jetbrains.annotations.Nullable;
 
 public class MultiblockIOBlock extends MultiblockBlock implements BlockEntityProvider {
@@ -25,4 +28,12 @@ public class MultiblockIOBlock extends MultiblockBlock implements BlockEntityPro
     public @Nullable <T extends BlockEntity> BlockEntityTicker<T> getTicker(World world, BlockState state, BlockEntityType<T> type) {
         return (world0, blockPos, blockState, blockEntity) -> ((TickableBlockEntity) blockEntity).tick();
     }
+
+    @Override
+    protected void neighborUpdate(BlockState state, World world, BlockPos pos, Block sourceBlock, @Nullable WireOrientation wireOrientation, boolean notify) {
+        super.neighborUpdate(state, world, pos, sourceBlock, wireOrientation, notify);
+        if (world.getBlockEntity(pos) instanceof MultiblockIOBlockEntity blockEntity) {
+            blockEntity.wakeTransfers();
+        }
+    }
 }
@@ -4,6 +4,8 @@ import com.mojang.datafixers.util.Pair;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.CachedRecipeLookup;
+import dev.turtywurty.industria.blockentity.util.LitStateUpdater;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
@@ -12,6 +14,7 @@ import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.RecipeTypeInit;
 import dev.turtywurty.industria.network.BlockPosPayload;
 import dev.turtywurty.industria.recipe.AlloyFurnaceRecipe;
+import dev.turtywurty.industria.recipe.RecipeIndexes;
 import dev.turtywurty.industria.screenhandler.AlloyFurnaceScreenHandler;
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.minecraft.block.Block;
@@ -32,7 +35,6 @@ import net.minecraft.screen.PropertyDelegate;
 import net.minecraft.screen.ScreenHandler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.state.property.Properties;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
@@ -80,6 +82,9 @@ public class AlloyFurnaceBlockEntity extends UpdatableBlockEntity implements Syn
 
     private RegistryKey<Recipe<?>> currentRecipeId;
 
+    private final CachedRecipeLookup<RecipeSimpleInventory, AlloyFurnaceRecipe> recipeLookup;
+    private final LitStateUpdater litStateUpdater = new LitStateUpdater();
+
     public AlloyFurnaceBlockEntity(BlockPos pos, BlockState state) {
         super(BlockEntityTypeInit.ALLOY_FURNACE, pos, state);
 
@@ -87,6 +92,10 @@ public class AlloyFurnaceBlockEntity extends UpdatableBlockEntity implements Syn
         this.wrappedInventoryStorage.addInventory(new SyncingSimpleInventory(this, 1), Direction.WEST);
         this.wrappedInventoryStorage.addInventory(new PredicateSimpleInventory(this, 1, (itemStack, slot) -> isFuel(itemStack)), Direction.UP);
         this.wrappedInventoryStorage.addInventory(new OutputSimpleInventory(this, 1), Direction.DOWN);
+
+        this.recipeLookup = new CachedRecipeLookup<>(RecipeIndexes.ALLOY_FURNACE,
+                (SyncingSimpleInventory) this.wrappedInventoryStorage.getInventory(INPUT_SLOT_0),
+                (SyncingSimpleInventory) this.wrappedInventoryStorage.getInventory(INPUT_SLOT_1));
     }
 
     public boolean isFuel(ItemStack stack) {
@@ -126,6 +135,12 @@ public class AlloyFurnaceBlockEntity extends UpdatableBlockEntity implements Syn
         return List.of(input0, input1, fuel, output);
     }
 
+    @Override
+    public void endTick() {
+        super.endTick();
+        this.litStateUpdater.update(this, this.burnTime > 0);
+    }
+
     @Override
     public void onTick() {
         if (this.world == null || this.world.isClient)
@@ -143,12 +158,6 @@ public class AlloyFurnaceBlockEntity extends UpdatableBlockEntity implements Syn
 
         if (this.burnTime > 0) {
             this.burnTime--;
-            if(this.burnTime <= 0) {
-                this.world.setBlockState(this.pos, getCachedState().with(Properties.LIT, false));
-            } else {
-                this.world.setBlockState(this.pos, getCachedState().with(Properties.LIT, true));
-            }
-
             update();
         }
 
@@ -226,7 +235,7 @@ public class AlloyFurnaceBlockEntity extends UpdatableBlockEntity implements Syn
         if (this.world == null || !(this.world instanceof ServerWorld serverWorld))
             return Optional.empty();
 
-        return serverWorld.getRecipeManager().getFirstMatch(RecipeTypeInit.ALLOY_FURNACE, getInventory(), this.world);
+        return this.recipeLookup.getFirstMatch(serverWorld, this::getInventory);
     }
 
     @Override
@@ -8,6 +8,7 @@ import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.energy.EnergyNeighbourCache;
 import dev.turtywurty.industria.blockentity.util.energy.EnergySpreader;
 import dev.turtywurty.industria.blockentity.util.energy.SyncingEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.energy.WrappedEnergyStorage;
@@ -50,6 +51,7 @@ public class BatteryBlockEntity extends UpdatableBlockEntity implements Syncable
     private final BatteryBlock.BatteryLevel batteryLevel;
     private final WrappedInventoryStorage<SimpleInventory> wrappedInventoryStorage = new WrappedInventoryStorage<>();
     private final WrappedEnergyStorage wrappedEnergyStorage = new WrappedEnergyStorage();
+    private final EnergyNeighbourCache energyNeighbourCache = new EnergyNeighbourCache();
 
     private ChargeMode chargeMode = ChargeMode.DISCHARGE;
 
@@ -161,6 +163,11 @@ public class BatteryBlockEntity extends UpdatableBlockEntity implements Syncable
         return nbt;
     }
 
+    @Override
+    public EnergyNeighbourCache getEnergyNeighbourCache() {
+        return this.energyNeighbourCache;
+    }
+
     public EnergyStorage getEnergyProvider(Direction direction) {
         return this.wrappedEnergyStorage.getStorage(direction);
     }
@@ -3,22 +3,24 @@ package dev.turtywurty.industria.blockentity;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.CachedRecipeLookup;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
-import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.fluid.*;
 import dev.turtywurty.industria.blockentity.util.inventory.OutputSimpleInventory;
 import dev.turtywurty.industria.blockentity.util.inventory.SyncingSimpleInventory;
 import dev.turtywurty.industria.blockentity.util.inventory.WrappedInventoryStorage;
+import dev.turtywurty.industria.blockentity.util.sleep.SleepableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.MultiblockTypeInit;
 import dev.turtywurty.industria.init.RecipeTypeInit;
-import dev.turtywurty.industria.multiblock.MultiblockIOPort;
 import dev.turtywurty.industria.multiblock.MultiblockType;
 import dev.turtywurty.industria.multiblock.Multiblockable;
 import dev.turtywurty.industria.multiblock.TransferType;
 import dev.turtywurty.industria.network.BlockPosPayload;
 import dev.turtywurty.industria.recipe.ClarifierRecipe;
+import dev.turtywurty.industria.recipe.RecipeIndexes;
 import dev.turtywurty.industria.recipe.input.ClarifierRecipeInput;
 import dev.turtywurty.industria.screenhandler.ClarifierScreenHandler;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
@@ -51,7 +53,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
-public class ClarifierBlockEntity extends UpdatableBlockEntity implements SyncableTickableBlockEntity, BlockEntityContentsDropper, Multiblockable, BlockEntityWithGui<BlockPosPayload> {
+public class ClarifierBlockEntity extends UpdatableBlockEntity implements SleepableBlockEntity, BlockEntityContentsDropper, Multiblockable, BlockEntityWithGui<BlockPosPayload> {
     public static final Text TITLE = Industria.containerTitle("clarifier");
 
     private final WrappedFluidStorage<SingleFluidStorage> wrappedFluidStorage = new WrappedFluidStorage<>();
@@ -59,6 +61,10 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
 
     private final List<BlockPos> multiblockPositions = new ArrayList<>();
 
+    private static final Set<WakeCondition> WAKE_CONDITIONS = EnumSet.of(WakeCondition.INVENTORY_CHANGE, WakeCondition.FLUID_CHANGE);
+
+    private boolean idle = false;
+
     private RegistryKey<Recipe<?>> currentRecipeId;
     private int progress;
     private int maxProgress;
@@ -68,6 +74,8 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
 
     private ItemStack nextOutputItemStack = ItemStack.EMPTY; // Used for rendering
 
+    private final CachedRecipeLookup<ClarifierRecipeInput, ClarifierRecipe> recipeLookup;
+
     private final PropertyDelegate properties = new PropertyDelegate() {
         @Override
         public int get(int index) {
@@ -100,6 +108,8 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
 
         this.wrappedFluidStorage.addStorage(new OutputFluidStorage(this, FluidConstants.BUCKET * 5), Direction.NORTH);
         this.wrappedInventoryStorage.addInventory(new OutputSimpleInventory(this, 1), Direction.SOUTH);
+
+        this.recipeLookup = new CachedRecipeLookup<>(RecipeIndexes.CLARIFIER, getInputFluidTank());
     }
 
     @Override
@@ -123,6 +133,7 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
 
     @Override
     public void onTick() {
+        this.idle = false;
         if (this.world == null || this.world.isClient)
             return;
 
@@ -131,6 +142,8 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
             if (outputInventory.canInsert(this.outputItemStack)) {
                 this.outputItemStack = outputInventory.addStack(this.outputItemStack);
                 update();
+            } else {
+                this.idle = true;
             }
 
             return;
@@ -144,22 +157,23 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
                 outputFluidTank.variant = outputFluidStack.variant();
                 this.outputFluidStack = this.outputFluidStack.withAmount(this.outputFluidStack.amount() - inserted);
                 update();
+            } else {
+                this.idle = true;
             }
 
             return;
         }
 
-        SyncingFluidStorage inputFluidStorage = getInputFluidTank();
-        var inputFluidStack = new FluidStack(inputFluidStorage.variant, inputFluidStorage.amount);
-        var recipeInput = new ClarifierRecipeInput(inputFluidStack);
         if (this.currentRecipeId == null) {
-            Optional<RecipeEntry<ClarifierRecipe>> recipeEntry = getCurrentRecipe(recipeInput);
+            Optional<RecipeEntry<ClarifierRecipe>> recipeEntry = getCurrentRecipe();
             if (recipeEntry.isPresent()) {
                 this.currentRecipeId = recipeEntry.get().id();
                 this.maxProgress = recipeEntry.get().value().processTime();
                 this.progress = 0;
 
                 update();
+            } else {
+                this.idle = true;
             }
 
             if (!this.nextOutputItemStack.isEmpty()) {
@@ -170,7 +184,7 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
             return;
         }
 
-        Optional<RecipeEntry<ClarifierRecipe>> recipeEntry = getCurrentRecipe(recipeInput);
+        Optional<RecipeEntry<ClarifierRecipe>> recipeEntry = getCurrentRecipe();
         if (recipeEntry.isEmpty() || !recipeEntry.get().id().equals(this.currentRecipeId)) {
             this.currentRecipeId = null;
             this.maxProgress = 0;
@@ -183,9 +197,9 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
 
         ClarifierRecipe recipe = recipeEntry.get().value();
         if (this.progress >= this.maxProgress) {
-            this.outputItemStack = recipe.craft(recipeInput, this.world.getRegistryManager());
+            this.outputItemStack = recipe.craft(createRecipeInput(), this.world.getRegistryManager());
             this.outputFluidStack = recipe.outputFluidStack();
-            inputFluidStorage.amount -= recipe.inputFluid().amount();
+            getInputFluidTank().amount -= recipe.inputFluid().amount();
 
             this.currentRecipeId = null;
             this.maxProgress = 0;
@@ -194,16 +208,35 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
             update();
         } else {
             this.progress++;
-            this.nextOutputItemStack = recipe.craft(recipeInput, this.world.getRegistryManager());
+            // The output is rolled once per recipe, rather than every tick
+            if (this.nextOutputItemStack.isEmpty()) {
+                this.nextOutputItemStack = recipe.craft(createRecipeInput(), this.world.getRegistryManager());
+            }
+
             update();
         }
     }
 
-    private Optional<RecipeEntry<ClarifierRecipe>> getCurrentRecipe(ClarifierRecipeInput recipeInput) {
+    @Override
+    public boolean canSleep() {
+        return this.idle;
+    }
+
+    @Override
+    public Set<WakeCondition> getWakeConditions() {
+        return WAKE_CONDITIONS;
+    }
+
+    private Optional<RecipeEntry<ClarifierRecipe>> getCurrentRecipe() {
         if (this.world == null || !(this.world instanceof ServerWorld serverWorld))
             return Optional.empty();
 
-        return serverWorld.getRecipeManager().getFirstMatch(RecipeTypeInit.CLARIFIER, recipeInput, this.world);
+        return this.recipeLookup.getFirstMatch(serverWorld, this::createRecipeInput);
+    }
+
+    private ClarifierRecipeInput createRecipeInput() {
+        SyncingFluidStorage inputFluidStorage = getInputFluidTank();
+        return new ClarifierRecipeInput(new FluidStack(inputFluidStorage.variant, inputFluidStorage.amount));
     }
 
     public SyncingSimpleInventory getOutputInventory() {
@@ -238,17 +271,15 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
         return maxProgress;
     }
 
-    @Override
-    public Map<Direction, MultiblockIOPort> getPorts(Vec3i offsetFromPrimary, Direction direction) {
-        Map<Direction, List<TransferType<?, ?, ?>>> transferTypes = new EnumMap<>(Direction.class);
+    public static List<TransferType<?, ?, ?>> getPortTypes(Vec3i offsetFromPrimary, Direction direction, Direction facing) {
         if (Multiblockable.isCenterColumn(offsetFromPrimary) && offsetFromPrimary.getY() == 1 && direction == Direction.UP)
-            transferTypes.put(Direction.UP, List.of(TransferType.FLUID));
+            return List.of(TransferType.FLUID);
         else if (offsetFromPrimary.getY() == 0 && offsetFromPrimary.getZ() == -1 && offsetFromPrimary.getX() == 0 && direction == Direction.NORTH)
-            transferTypes.put(Direction.NORTH, List.of(TransferType.FLUID));
+            return List.of(TransferType.FLUID);
         else if (offsetFromPrimary.getY() == 0 && offsetFromPrimary.getZ() == 1 && offsetFromPrimary.getX() == 0 && direction == Direction.SOUTH)
-            transferTypes.put(Direction.SOUTH, List.of(TransferType.ITEM));
+            return List.of(TransferType.ITEM);
 
-        return Multiblockable.toIOPortMap(transferTypes);
+        return List.of();
     }
 
     @Override
@@ -332,34 +363,6 @@ public class ClarifierBlockEntity extends UpdatableBlockEntity implements Syncab
         return MultiblockTypeInit.CLARIFIER;
     }
 
-    @Override
-    public List<BlockPos> findPositions(@Nullable Direction facing) {
-        // 3x3x2 (3 wide, 3 long, 2 high)
-        if (this.world == null)
-            return List.of();
-
-        List<BlockPos> positions = new ArrayList<>();
-        List<BlockPos> invalidPositions = new ArrayList<>();
-
-        for (int x = -1; x <= 1; x++) {
-            for (int z = -1; z <= 1; z++) {
-                for (int y = 0; y <= 1; y++) {
-                    if (x == 0 && y == 0 && z == 0)
-                        continue;
-
-                    BlockPos pos = this.pos.add(x, y, z);
-                    if (this.world.getBlockState(pos).isReplaceable()) {
-                        positions.add(pos);
-                    } else {
-                        invalidPositions.add(pos);
-                    }
-                }
-            }
-        }
-
-        return invalidPositions.isEmpty() ? positions : List.of();
-    }
-
     @Override
     public List<BlockPos> getMultiblockPositions() {
         return this.multiblockPositions;
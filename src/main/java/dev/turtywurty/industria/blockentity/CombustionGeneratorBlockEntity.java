@@ -3,14 +3,17 @@ package dev.turtywurty.industria.blockentity;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.LitStateUpdater;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
-import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.energy.EnergyNeighbourCache;
 import dev.turtywurty.industria.blockentity.util.energy.EnergySpreader;
 import dev.turtywurty.industria.blockentity.util.energy.SyncingEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.energy.WrappedEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.inventory.SyncingSimpleInventory;
 import dev.turtywurty.industria.blockentity.util.inventory.WrappedInventoryStorage;
+import dev.turtywurty.industria.blockentity.util.sleep.SleepableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.network.BlockPosPayload;
 import dev.turtywurty.industria.screenhandler.CombustionGeneratorScreenHandler;
@@ -35,13 +38,19 @@ import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.EnergyStorage;
 import team.reborn.energy.api.base.SimpleEnergyStorage;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
-public class CombustionGeneratorBlockEntity extends UpdatableBlockEntity implements SyncableTickableBlockEntity, BlockEntityWithGui<BlockPosPayload>, EnergySpreader, BlockEntityContentsDropper {
+public class CombustionGeneratorBlockEntity extends UpdatableBlockEntity implements SleepableBlockEntity, BlockEntityWithGui<BlockPosPayload>, EnergySpreader, BlockEntityContentsDropper {
     public static final Text TITLE = Industria.containerTitle("combustion_generator");
+    private static final Set<WakeCondition> WAKE_CONDITIONS = EnumSet.of(WakeCondition.INVENTORY_CHANGE);
 
     private final WrappedEnergyStorage energyStorage = new WrappedEnergyStorage();
+    private final EnergyNeighbourCache energyNeighbourCache = new EnergyNeighbourCache();
     private final WrappedInventoryStorage<SimpleInventory> wrappedInventoryStorage = new WrappedInventoryStorage<>();
+    private final LitStateUpdater litStateUpdater = new LitStateUpdater();
+    private boolean idle = false;
 
     private int burnTime = 0;
     private int fuelTime = 0;
@@ -68,6 +77,24 @@ public class CombustionGeneratorBlockEntity extends UpdatableBlockEntity impleme
         return List.of(energy, inventory);
     }
 
+    @Override
+    public void endTick() {
+        super.endTick();
+        this.litStateUpdater.update(this, this.burnTime > 0);
+    }
+
+    @Override
+    public boolean canSleep() {
+        // With no energy left to spread, nothing happens until fuel is put in
+        SimpleEnergyStorage energyStorage = (SimpleEnergyStorage) this.energyStorage.getStorage(null);
+        return this.idle && energyStorage.getAmount() == 0 && this.litStateUpdater.isSettled(this, this.burnTime > 0);
+    }
+
+    @Override
+    public Set<WakeCondition> getWakeConditions() {
+        return WAKE_CONDITIONS;
+    }
+
     @Override
     public void onTick() {
         if (this.world == null || this.world.isClient)
@@ -77,6 +104,7 @@ public class CombustionGeneratorBlockEntity extends UpdatableBlockEntity impleme
 
         spread(this.world, this.pos, energyStorage);
 
+        this.idle = false;
         if (energyStorage.getAmount() > energyStorage.getCapacity() - 20)
             return;
 
@@ -92,6 +120,8 @@ public class CombustionGeneratorBlockEntity extends UpdatableBlockEntity impleme
                 this.burnTime = getFuelTime(stack);
                 stack.decrement(1);
                 update();
+            } else {
+                this.idle = true;
             }
         }
     }
@@ -165,6 +195,11 @@ public class CombustionGeneratorBlockEntity extends UpdatableBlockEntity impleme
         return getCachedState().getBlock();
     }
 
+    @Override
+    public EnergyNeighbourCache getEnergyNeighbourCache() {
+        return this.energyNeighbourCache;
+    }
+
     public EnergyStorage getEnergyProvider(Direction direction) {
         return this.energyStorage.getStorage(direction);
     }
@@ -3,6 +3,7 @@ package dev.turtywurty.industria.blockentity;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.CachedRecipeLookup;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
@@ -15,6 +16,7 @@ import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.RecipeTypeInit;
 import dev.turtywurty.industria.network.BlockPosPayload;
 import dev.turtywurty.industria.recipe.CrusherRecipe;
+import dev.turtywurty.industria.recipe.RecipeIndexes;
 import dev.turtywurty.industria.screenhandler.CrusherScreenHandler;
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.minecraft.block.Block;
@@ -87,6 +89,8 @@ public class CrusherBlockEntity extends UpdatableBlockEntity implements Syncable
     };
     private RegistryKey<Recipe<?>> currentRecipeId;
 
+    private final CachedRecipeLookup<RecipeSimpleInventory, CrusherRecipe> recipeLookup;
+
     public CrusherBlockEntity(BlockPos pos, BlockState state) {
         super(BlockEntityTypeInit.CRUSHER, pos, state);
 
@@ -94,6 +98,9 @@ public class CrusherBlockEntity extends UpdatableBlockEntity implements Syncable
         this.wrappedInventoryStorage.addInventory(new SyncingSimpleInventory(this, 2), Direction.DOWN);
 
         this.wrappedEnergyStorage.addStorage(new SyncingEnergyStorage(this, 10_000, 1_000, 0));
+
+        this.recipeLookup = new CachedRecipeLookup<>(RecipeIndexes.CRUSHER,
+                (SyncingSimpleInventory) this.wrappedInventoryStorage.getInventory(INPUT_SLOT));
     }
 
     @Override
@@ -259,7 +266,7 @@ public class CrusherBlockEntity extends UpdatableBlockEntity implements Syncable
         if (this.world == null || !(this.world instanceof ServerWorld serverWorld))
             return Optional.empty();
 
-        return serverWorld.getRecipeManager().getFirstMatch(RecipeTypeInit.CRUSHER, getInventory(), this.world);
+        return this.recipeLookup.getFirstMatch(serverWorld, this::getInventory);
     }
 
     @Override
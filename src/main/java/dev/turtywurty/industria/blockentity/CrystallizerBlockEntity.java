@@ -3,8 +3,8 @@ package dev.turtywurty.industria.blockentity;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.CachedRecipeLookup;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
-import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.fluid.FluidStack;
 import dev.turtywurty.industria.blockentity.util.fluid.InputFluidStorage;
@@ -12,15 +12,17 @@ import dev.turtywurty.industria.blockentity.util.fluid.WrappedFluidStorage;
 import dev.turtywurty.industria.blockentity.util.inventory.OutputSimpleInventory;
 import dev.turtywurty.industria.blockentity.util.inventory.SyncingSimpleInventory;
 import dev.turtywurty.industria.blockentity.util.inventory.WrappedInventoryStorage;
+import dev.turtywurty.industria.blockentity.util.sleep.SleepableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.MultiblockTypeInit;
 import dev.turtywurty.industria.init.RecipeTypeInit;
-import dev.turtywurty.industria.multiblock.MultiblockIOPort;
 import dev.turtywurty.industria.multiblock.MultiblockType;
 import dev.turtywurty.industria.multiblock.Multiblockable;
 import dev.turtywurty.industria.multiblock.TransferType;
 import dev.turtywurty.industria.network.BlockPosPayload;
 import dev.turtywurty.industria.recipe.CrystallizerRecipe;
+import dev.turtywurty.industria.recipe.RecipeIndexes;
 import dev.turtywurty.industria.recipe.input.CrystallizerRecipeInput;
 import dev.turtywurty.industria.screenhandler.CrystallizerScreenHandler;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
@@ -61,7 +63,7 @@ import java.util.*;
 // output:
 // aluminium hydroxide (gibbsite) (item)
 // sodium carbonate (item) - by-product
-public class CrystallizerBlockEntity extends UpdatableBlockEntity implements SyncableTickableBlockEntity, BlockEntityWithGui<BlockPosPayload>, BlockEntityContentsDropper, Multiblockable {
+public class CrystallizerBlockEntity extends UpdatableBlockEntity implements SleepableBlockEntity, BlockEntityWithGui<BlockPosPayload>, BlockEntityContentsDropper, Multiblockable {
     public static final Text TITLE = Industria.containerTitle("crystallizer");
 
     private final WrappedFluidStorage<SingleFluidStorage> wrappedFluidStorage = new WrappedFluidStorage<>();
@@ -69,6 +71,10 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
 
     private final List<BlockPos> multiblockPositions = new ArrayList<>();
 
+    private static final Set<WakeCondition> WAKE_CONDITIONS = EnumSet.of(WakeCondition.INVENTORY_CHANGE, WakeCondition.FLUID_CHANGE);
+
+    private boolean idle = false;
+
     private int progress;
     private int maxProgress;
     private RegistryKey<Recipe<?>> currentRecipeId;
@@ -79,6 +85,8 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
 
     private ItemStack nextOutputItemStack = ItemStack.EMPTY; // Used for rendering
 
+    private final CachedRecipeLookup<CrystallizerRecipeInput, CrystallizerRecipe> recipeLookup;
+
     private final PropertyDelegate properties = new PropertyDelegate() {
         @Override
         public int get(int index) {
@@ -116,6 +124,9 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
         this.wrappedInventoryStorage.addInventory(new SyncingSimpleInventory(this, 1), Direction.WEST);
         this.wrappedInventoryStorage.addInventory(new OutputSimpleInventory(this, 1), Direction.NORTH);
         this.wrappedInventoryStorage.addInventory(new OutputSimpleInventory(this, 1), Direction.EAST);
+
+        this.recipeLookup = new CachedRecipeLookup<>(RecipeIndexes.CRYSTALLIZER,
+                getWaterFluidStorage(), getCrystalFluidStorage(), getCatalystInventory());
     }
 
     public boolean isRunning() {
@@ -145,6 +156,7 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
 
     @Override
     public void onTick() {
+        this.idle = false;
         if (this.world == null || this.world.isClient)
             return;
 
@@ -153,6 +165,8 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
             if (outputInventory.canInsert(this.outputItemStack)) {
                 this.outputItemStack = outputInventory.addStack(this.outputItemStack);
                 update();
+            } else {
+                this.idle = true;
             }
 
             return;
@@ -163,6 +177,8 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
             if (byproductInventory.canInsert(this.byproductItemStack)) {
                 this.byproductItemStack = byproductInventory.addStack(this.byproductItemStack);
                 update();
+            } else {
+                this.idle = true;
             }
 
             return;
@@ -172,18 +188,17 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
         InputFluidStorage crystalFluidStorage = getCrystalFluidStorage();
         SyncingSimpleInventory catalystInventory = getCatalystInventory();
 
-        var waterFluidStack = new FluidStack(waterFluidStorage.variant, waterFluidStorage.amount);
-        var crystalFluidStack = new FluidStack(crystalFluidStorage.variant, crystalFluidStorage.amount);
         ItemStack catalystItemStack = catalystInventory.getStack(0);
-        var recipeInput = new CrystallizerRecipeInput(waterFluidStack, crystalFluidStack, catalystItemStack);
         if (this.currentRecipeId == null) {
-            Optional<RecipeEntry<CrystallizerRecipe>> recipeEntry = getCurrentRecipe(recipeInput);
+            Optional<RecipeEntry<CrystallizerRecipe>> recipeEntry = getCurrentRecipe();
             if (recipeEntry.isPresent()) {
                 this.currentRecipeId = recipeEntry.get().id();
                 this.maxProgress = recipeEntry.get().value().processTime();
                 this.progress = 0;
 
                 update();
+            } else {
+                this.idle = true;
             }
 
             if(!this.nextOutputItemStack.isEmpty()) {
@@ -323,11 +338,30 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
         }
     }
 
-    private Optional<RecipeEntry<CrystallizerRecipe>> getCurrentRecipe(CrystallizerRecipeInput recipeInput) {
+    @Override
+    public boolean canSleep() {
+        return this.idle;
+    }
+
+    @Override
+    public Set<WakeCondition> getWakeConditions() {
+        return WAKE_CONDITIONS;
+    }
+
+    private Optional<RecipeEntry<CrystallizerRecipe>> getCurrentRecipe() {
         if (this.world == null || !(this.world instanceof ServerWorld serverWorld))
             return Optional.empty();
 
-        return serverWorld.getRecipeManager().getFirstMatch(RecipeTypeInit.CRYSTALLIZER, recipeInput, this.world);
+        return this.recipeLookup.getFirstMatch(serverWorld, this::createRecipeInput);
+    }
+
+    private CrystallizerRecipeInput createRecipeInput() {
+        InputFluidStorage waterFluidStorage = getWaterFluidStorage();
+        InputFluidStorage crystalFluidStorage = getCrystalFluidStorage();
+        return new CrystallizerRecipeInput(
+                new FluidStack(waterFluidStorage.variant, waterFluidStorage.amount),
+                new FluidStack(crystalFluidStorage.variant, crystalFluidStorage.amount),
+                getCatalystInventory().getStack(0));
     }
 
     private @Nullable CrystallizerRecipe getRecipeById(RegistryKey<Recipe<?>> recipeId) {
@@ -340,31 +374,30 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
                 .orElse(null);
     }
 
-    @Override
-    public Map<Direction, MultiblockIOPort> getPorts(Vec3i offsetFromPrimary, Direction direction) {
-        Map<Direction, List<TransferType<?, ?, ?>>> transferTypes = new EnumMap<>(Direction.class);
+    public static List<TransferType<?, ?, ?>> getPortTypes(Vec3i offsetFromPrimary, Direction direction, Direction facing) {
+        List<TransferType<?, ?, ?>> transferTypes = new ArrayList<>();
 
         // south - water input
         // up - crystal input
         if (offsetFromPrimary.getY() == 3 && Multiblockable.isCenterColumn(offsetFromPrimary) && direction == Direction.UP)
-            transferTypes.computeIfAbsent(direction, d -> new ArrayList<>()).add(TransferType.FLUID);
+            transferTypes.add(TransferType.FLUID);
 
         if (offsetFromPrimary.getY() == 3 && offsetFromPrimary.getZ() == 1 && direction == Direction.SOUTH)
-            transferTypes.computeIfAbsent(direction, d -> new ArrayList<>()).add(TransferType.FLUID);
+            transferTypes.add(TransferType.FLUID);
 
         // west - catalyst input
         // north - output
         // east - byproduct
         if (offsetFromPrimary.getY() == 0 && offsetFromPrimary.getX() == -1 && direction == Direction.WEST)
-            transferTypes.computeIfAbsent(direction, d -> new ArrayList<>()).add(TransferType.ITEM);
+            transferTypes.add(TransferType.ITEM);
 
         if (offsetFromPrimary.getY() == 0 && offsetFromPrimary.getZ() == -1 && direction == Direction.NORTH)
-            transferTypes.computeIfAbsent(direction, d -> new ArrayList<>()).add(TransferType.ITEM);
+            transferTypes.add(TransferType.ITEM);
 
         if (offsetFromPrimary.getY() == 0 && offsetFromPrimary.getX() == 1 && direction == Direction.EAST)
-            transferTypes.computeIfAbsent(direction, d -> new ArrayList<>()).add(TransferType.ITEM);
+            transferTypes.add(TransferType.ITEM);
 
-        return Multiblockable.toIOPortMap(transferTypes);
+        return transferTypes;
     }
 
     @Override
@@ -372,34 +405,6 @@ public class CrystallizerBlockEntity extends UpdatableBlockEntity implements Syn
         return MultiblockTypeInit.CRYSTALLIZER;
     }
 
-    @Override
-    public List<BlockPos> findPositions(@Nullable Direction facing) {
-        // 3x3x4 (3 wide, 3 long, 4 high)
-        if (this.world == null)
-            return List.of();
-
-        List<BlockPos> positions = new ArrayList<>();
-        List<BlockPos> invalidPositions = new ArrayList<>();
-
-        for (int x = -1; x <= 1; x++) {
-            for (int z = -1; z <= 1; z++) {
-                for (int y = 0; y < 4; y++) {
-                    if (x == 0 && y == 0 && z == 0)
-                        continue;
-
-                    BlockPos pos = this.pos.add(x, y, z);
-                    if (this.world.getBlockState(pos).isReplaceable()) {
-                        positions.add(pos);
-                    } else {
-                        invalidPositions.add(pos);
-                    }
-                }
-            }
-        }
-
-        return invalidPositions.isEmpty() ? positions : List.of();
-    }
-
     @Override
     public List<BlockPos> getMultiblockPositions() {
         return this.multiblockPositions;
@@ -6,8 +6,8 @@ import dev.turtywurty.fabricslurryapi.api.storage.SlurryStorage;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.CachedRecipeLookup;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
-import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.energy.SyncingEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.energy.WrappedEnergyStorage;
@@ -22,15 +22,17 @@ import dev.turtywurty.industria.blockentity.util.slurry.InputSlurryStorage;
 import dev.turtywurty.industria.blockentity.util.slurry.SlurryStack;
 import dev.turtywurty.industria.blockentity.util.slurry.SyncingSlurryStorage;
 import dev.turtywurty.industria.blockentity.util.slurry.WrappedSlurryStorage;
+import dev.turtywurty.industria.blockentity.util.sleep.SleepableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.MultiblockTypeInit;
 import dev.turtywurty.industria.init.RecipeTypeInit;
-import dev.turtywurty.industria.multiblock.MultiblockIOPort;
 import dev.turtywurty.industria.multiblock.MultiblockType;
 import dev.turtywurty.industria.multiblock.Multiblockable;
 import dev.turtywurty.industria.multiblock.TransferType;
 import dev.turtywurty.industria.network.BlockPosPayload;
 import dev.turtywurty.industria.recipe.DigesterRecipe;
+import dev.turtywurty.industria.recipe.RecipeIndexes;
 import dev.turtywurty.industria.recipe.input.DigesterRecipeInput;
 import dev.turtywurty.industria.screenhandler.DigesterScreenHandler;
 import dev.turtywurty.industria.util.TransferUtils;
@@ -73,7 +75,7 @@ import team.reborn.energy.api.EnergyStorage;
 import java.util.*;
 
 // TODO: Make this work with temperature and pressure
-public class DigesterBlockEntity extends UpdatableBlockEntity implements SyncableTickableBlockEntity, BlockEntityWithGui<BlockPosPayload>, Multiblockable, BlockEntityContentsDropper {
+public class DigesterBlockEntity extends UpdatableBlockEntity implements SleepableBlockEntity, BlockEntityWithGui<BlockPosPayload>, Multiblockable, BlockEntityContentsDropper {
     public static final Text TITLE = Industria.containerTitle("digester");
 
     private final WrappedInventoryStorage<SimpleInventory> wrappedInventoryStorage = new WrappedInventoryStorage<>();
@@ -83,10 +85,17 @@ public class DigesterBlockEntity extends UpdatableBlockEntity implements Syncabl
 
     private final List<BlockPos> multiblockPositions = new ArrayList<>();
 
+    private static final Set<WakeCondition> WAKE_CONDITIONS = EnumSet.of(WakeCondition.INVENTORY_CHANGE,
+            WakeCondition.FLUID_CHANGE, WakeCondition.SLURRY_CHANGE, WakeCondition.ENERGY_CHANGE);
+
+    private boolean idle = false;
+
     private RegistryKey<Recipe<?>> currentRecipeId;
     private int progress;
     private int maxProgress;
 
+    private final CachedRecipeLookup<DigesterRecipeInput, DigesterRecipe> recipeLookup;
+
     private final PropertyDelegate properties = new PropertyDelegate() {
         @Override
         public int get(int index) {
@@ -127,6 +136,8 @@ public class DigesterBlockEntity extends UpdatableBlockEntity implements Syncabl
 
         this.wrappedSlurryStorage.addStorage(new InputSlurryStorage(this, FluidConstants.BUCKET * 5), Direction.UP);
         this.wrappedFluidStorage.addStorage(new OutputFluidStorage(this, FluidConstants.BUCKET * 5), Direction.SOUTH);
+
+        this.recipeLookup = new CachedRecipeLookup<>(RecipeIndexes.DIGESTER, getInputSlurryStorage());
     }
 
     @Override
@@ -160,23 +171,23 @@ public class DigesterBlockEntity extends UpdatableBlockEntity implements Syncabl
         return (OutputFluidStorage) this.wrappedFluidStorage.getStorage(Direction.SOUTH);
     }
 
-    @Override
-    public Map<Direction, MultiblockIOPort> getPorts(Vec3i offsetFromPrimary, Direction direction) {
-        Map<Direction, List<TransferType<?, ?, ?>>> transferTypes = new EnumMap<>(Direction.class);
+    public static List<TransferType<?, ?, ?>> getPortTypes(Vec3i offsetFromPrimary, Direction direction, Direction facing) {
+        List<TransferType<?, ?, ?>> transferTypes = new ArrayList<>();
         if (offsetFromPrimary.getY() == 4 && Multiblockable.isCenterColumn(offsetFromPrimary) && direction == Direction.UP)
-            transferTypes.computeIfAbsent(direction, d -> new ArrayList<>()).add(TransferType.SLURRY);
+            transferTypes.add(TransferType.SLURRY);
 
         if (offsetFromPrimary.getZ() == -1 && direction == Direction.NORTH)
-            transferTypes.computeIfAbsent(direction, d -> new ArrayList<>()).add(TransferType.ENERGY);
+            transferTypes.add(TransferType.ENERGY);
 
         if (offsetFromPrimary.getY() == 0 && offsetFromPrimary.getZ() == 1 && direction == Direction.SOUTH)
-            transferTypes.computeIfAbsent(direction, d -> new ArrayList<>()).add(TransferType.FLUID);
+            transferTypes.add(TransferType.FLUID);
 
-        return Multiblockable.toIOPortMap(transferTypes);
+        return transferTypes;
     }
 
     @Override
     public void onTick() {
+        this.idle = false;
         if (this.world == null || this.world.isClient)
             return;
 
@@ -227,6 +238,8 @@ public class DigesterBlockEntity extends UpdatableBlockEntity implements Syncabl
                 this.maxProgress = recipeEntry.get().value().processTime();
                 this.progress = 0;
                 update();
+            } else {
+                this.idle = hasEmptyBucketSlots();
             }
 
             return;
@@ -259,22 +272,43 @@ public class DigesterBlockEntity extends UpdatableBlockEntity implements Syncabl
                 this.currentRecipeId = null;
 
                 update();
+            } else {
+                this.idle = hasEmptyBucketSlots();
             }
         } else {
             if (hasEnergy()) {
                 this.progress++;
                 extractEnergy();
                 update();
+            } else {
+                this.idle = hasEmptyBucketSlots();
             }
         }
     }
 
+    @Override
+    public boolean canSleep() {
+        return this.idle;
+    }
+
+    @Override
+    public Set<WakeCondition> getWakeConditions() {
+        return WAKE_CONDITIONS;
+    }
+
+    // Buckets are filled and emptied every tick, so anything in those slots may still have work to do
+    private boolean hasEmptyBucketSlots() {
+        return getInputSlurryInventory().isEmpty() && getOutputFluidInventory().isEmpty();
+    }
+
     private Optional<RecipeEntry<DigesterRecipe>> getCurrentRecipe() {
         if (this.world == null || !(this.world instanceof ServerWorld serverWorld))
             return Optional.empty();
 
-        InputSlurryStorage slurryStorage = getInputSlurryStorage();
-        return serverWorld.getRecipeManager().getFirstMatch(RecipeTypeInit.DIGESTER, new DigesterRecipeInput(new SlurryStack(slurryStorage.variant, slurryStorage.amount)), this.world);
+        return this.recipeLookup.getFirstMatch(serverWorld, () -> {
+            InputSlurryStorage slurryStorage = getInputSlurryStorage();
+            return new DigesterRecipeInput(new SlurryStack(slurryStorage.variant, slurryStorage.amount));
+        });
     }
 
     private boolean hasEnergy() {
@@ -369,32 +403,6 @@ public class DigesterBlockEntity extends UpdatableBlockEntity implements Syncabl
         return MultiblockTypeInit.DIGESTER;
     }
 
-    @Override
-    public List<BlockPos> findPositions(@Nullable Direction facing) {
-        if (this.world == null)
-            return List.of();
-
-        List<BlockPos> positions = new ArrayList<>();
-        List<BlockPos> invalidPositions = new ArrayList<>();
-        for (int x = -1; x < 2; x++) {
-            for (int z = -1; z < 2; z++) {
-                for (int y = 0; y < 5; y++) {
-                    if (x == 0 && y == 0 && z == 0)
-                        continue;
-
-                    BlockPos pos = this.pos.add(x, y, z);
-                    if (this.world.getBlockState(pos).isReplaceable()) {
-                        positions.add(pos);
-                    } else {
-                        invalidPositions.add(pos);
-                    }
-                }
-            }
-        }
-
-        return invalidPositions.isEmpty() ? positions : List.of();
-    }
-
     @Override
     public List<BlockPos> getMultiblockPositions() {
         return this.multiblockPositions;
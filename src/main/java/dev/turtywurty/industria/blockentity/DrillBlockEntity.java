@@ -4,6 +4,7 @@ import com.mojang.serialization.Codec;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.BlockDropCache;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
@@ -17,11 +18,11 @@ import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.BlockInit;
 import dev.turtywurty.industria.init.DamageTypeInit;
 import dev.turtywurty.industria.init.MultiblockTypeInit;
-import dev.turtywurty.industria.multiblock.MultiblockIOPort;
 import dev.turtywurty.industria.multiblock.MultiblockType;
 import dev.turtywurty.industria.multiblock.Multiblockable;
 import dev.turtywurty.industria.multiblock.TransferType;
 import dev.turtywurty.industria.network.BlockPosPayload;
+import dev.turtywurty.industria.persistent.WorldFluidPocketsState;
 import dev.turtywurty.industria.screenhandler.DrillScreenHandler;
 import dev.turtywurty.industria.util.DrillHeadable;
 import dev.turtywurty.industria.util.DrillRenderData;
@@ -35,9 +36,6 @@ import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.inventory.SimpleInventory;
 import net.minecraft.item.BlockItem;
 import net.minecraft.item.ItemStack;
-import net.minecraft.item.Items;
-import net.minecraft.loot.context.LootContextParameters;
-import net.minecraft.loot.context.LootWorldContext;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.nbt.NbtList;
@@ -128,7 +126,7 @@ public class DrillBlockEntity extends UpdatableBlockEntity implements BlockEntit
             return;
 
         if (!this.overflowStacks.isEmpty()) {
-            this.overflowStacks.replaceAll(stack -> getOutputInventory().addStack(stack));
+            getOutputInventory().addStacks(this.overflowStacks);
             this.overflowStacks.removeIf(ItemStack::isEmpty);
         }
 
@@ -326,43 +324,23 @@ public class DrillBlockEntity extends UpdatableBlockEntity implements BlockEntit
         return this.multiblockPositions;
     }
 
-    @Override
-    public Map<Direction, MultiblockIOPort> getPorts(Vec3i offsetFromPrimary, Direction direction) {
-        Map<Direction, MultiblockIOPort> ports = new EnumMap<>(Direction.class);
-        if (offsetFromPrimary.getY() == 2) {
-            ports.put(Direction.SOUTH, new MultiblockIOPort(Direction.SOUTH, TransferType.ITEM));
-        } else if (offsetFromPrimary.getY() == 0 && (offsetFromPrimary.getX() != 0 || offsetFromPrimary.getZ() != 0)) {
-            ports.put(Direction.DOWN, new MultiblockIOPort(Direction.DOWN, TransferType.ITEM));
-        } else if (offsetFromPrimary.getY() == 1 && offsetFromPrimary.getX() == -1 && offsetFromPrimary.getZ() == 0) {
-            ports.put(Direction.UP, new MultiblockIOPort(Direction.UP, TransferType.ITEM));
-        } else if (offsetFromPrimary.getY() == 1 && offsetFromPrimary.getX() == 1 && offsetFromPrimary.getZ() == 0) {
-            ports.put(Direction.NORTH, new MultiblockIOPort(Direction.NORTH, TransferType.ITEM));
-        }
-
-        if (offsetFromPrimary.getY() == 1 && offsetFromPrimary.getX() == 0 && offsetFromPrimary.getZ() == 0) {
-            ports.put(Direction.UP, new MultiblockIOPort(Direction.UP, TransferType.ENERGY));
-        }
+    public static List<TransferType<?, ?, ?>> getPortTypes(Vec3i offsetFromPrimary, Direction direction, Direction facing) {
+        if (offsetFromPrimary.getY() == 2 && direction == Direction.SOUTH)
+            return List.of(TransferType.ITEM);
 
-        return ports;
-    }
+        if (offsetFromPrimary.getY() == 0 && (offsetFromPrimary.getX() != 0 || offsetFromPrimary.getZ() != 0) && direction == Direction.DOWN)
+            return List.of(TransferType.ITEM);
 
-    // 3x3x3 Multiblock
-    @Override
-    public List<BlockPos> findPositions(@Nullable Direction facing) {
-        List<BlockPos> positions = new ArrayList<>();
+        if (offsetFromPrimary.getY() == 1 && offsetFromPrimary.getX() == -1 && offsetFromPrimary.getZ() == 0 && direction == Direction.UP)
+            return List.of(TransferType.ITEM);
 
-        for (int x = -1; x <= 1; x++) {
-            for (int y = 0; y <= 2; y++) {
-                for (int z = -1; z <= 1; z++) {
-                    if (x == 0 && y == 0 && z == 0)
-                        continue;
+        if (offsetFromPrimary.getY() == 1 && offsetFromPrimary.getX() == 1 && offsetFromPrimary.getZ() == 0 && direction == Direction.NORTH)
+            return List.of(TransferType.ITEM);
 
-                    positions.add(this.pos.add(x, y, z));
-                }
-            }
-        }
+        if (offsetFromPrimary.getY() == 1 && offsetFromPrimary.getX() == 0 && offsetFromPrimary.getZ() == 0 && direction == Direction.UP)
+            return List.of(TransferType.ENERGY);
 
-        return positions;
+        return List.of();
     }
 
     @Override
@@ -457,28 +435,16 @@ public class DrillBlockEntity extends UpdatableBlockEntity implements BlockEntit
         return this.overflowMethod;
     }
 
-    public SimpleInventory getOutputInventory() {
-        return this.wrappedInventoryStorage.getInventory(2);
+    public SyncingSimpleInventory getOutputInventory() {
+        return (SyncingSimpleInventory) this.wrappedInventoryStorage.getInventory(2);
     }
 
     public void handleBlockBreak(BlockPos pos, BlockState state) {
         if (this.world == null || !(this.world instanceof ServerWorld serverWorld))
             return;
 
-        List<ItemStack> drops = new ArrayList<>(state.getDroppedStacks(new LootWorldContext.Builder(serverWorld)
-                .add(LootContextParameters.ORIGIN, pos.toCenterPos())
-                .add(LootContextParameters.BLOCK_STATE, state)
-                .add(LootContextParameters.TOOL, Items.DIAMOND_PICKAXE.getDefaultStack())
-                .addOptional(LootContextParameters.BLOCK_ENTITY, this)));
-        SimpleInventory inventory = getOutputInventory();
-        for (int index = 0; index < drops.size(); index++) {
-            ItemStack drop = drops.get(index);
-            if (drop.isEmpty())
-                continue;
-
-            drops.set(index, inventory.addStack(drop));
-        }
-
+        List<ItemStack> drops = BlockDropCache.getDrops(serverWorld, pos, state, this);
+        getOutputInventory().addStacks(drops);
         drops.removeIf(ItemStack::isEmpty);
 
         switch (this.overflowMethod) {
@@ -504,6 +470,9 @@ public class DrillBlockEntity extends UpdatableBlockEntity implements BlockEntit
         }
 
         world.breakBlock(pos, false);
+
+        // Like a block broken by a player, it is no longer part of a fluid pocket
+        WorldFluidPocketsState.getServerState(serverWorld).removePosition(serverWorld, pos);
     }
 
     public void setOverflowMethod(OverflowMethod overflowMethod) {
@@ -3,9 +3,11 @@ package dev.turtywurty.industria.blockentity;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.LitStateUpdater;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
-import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.SleepableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import dev.turtywurty.industria.blockentity.util.energy.SyncingEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.energy.WrappedEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.inventory.OutputSimpleInventory;
@@ -46,10 +48,12 @@ import team.reborn.energy.api.EnergyStorage;
 import team.reborn.energy.api.base.SimpleEnergyStorage;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
-public class ElectricFurnaceBlockEntity extends UpdatableBlockEntity implements SyncableTickableBlockEntity, BlockEntityWithGui<BlockPosPayload>, RecipeExperienceBlockEntity, BlockEntityContentsDropper {
+public class ElectricFurnaceBlockEntity extends UpdatableBlockEntity implements SleepableBlockEntity, BlockEntityWithGui<BlockPosPayload>, RecipeExperienceBlockEntity, BlockEntityContentsDropper {
     public static final Text TITLE = Industria.containerTitle("electric_furnace");
 
     private final WrappedInventoryStorage<SimpleInventory> wrappedInventoryStorage = new WrappedInventoryStorage<>();
@@ -57,6 +61,11 @@ public class ElectricFurnaceBlockEntity extends UpdatableBlockEntity implements
     private final Reference2IntOpenHashMap<RegistryKey<Recipe<?>>> recipesUsed = new Reference2IntOpenHashMap<>();
     private final ServerRecipeManager.MatchGetter<SingleStackRecipeInput, SmeltingRecipe> matchGetter;
 
+    private static final Set<WakeCondition> WAKE_CONDITIONS = EnumSet.of(WakeCondition.INVENTORY_CHANGE, WakeCondition.ENERGY_CHANGE);
+
+    private final LitStateUpdater litStateUpdater = new LitStateUpdater();
+    private boolean idle = false;
+
     private int progress = 0, maxProgress = 0;
 
     public ElectricFurnaceBlockEntity(BlockPos pos, BlockState state) {
@@ -74,6 +83,9 @@ public class ElectricFurnaceBlockEntity extends UpdatableBlockEntity implements
         if (this.world == null || this.world.isClient)
             return;
 
+        // Every early return below waits for the inventory or the energy to change
+        this.idle = true;
+
         SimpleEnergyStorage energyStorage = (SimpleEnergyStorage) this.wrappedEnergyStorage.getStorage(null);
         if (energyStorage.amount < 10)
             return;
@@ -101,6 +113,7 @@ public class ElectricFurnaceBlockEntity extends UpdatableBlockEntity implements
         if (!canAcceptOutput(entry, recipeInput))
             return;
 
+        this.idle = false;
         this.maxProgress = entry.value().getCookingTime() / 2;
 
         if (this.progress >= this.maxProgress) {
@@ -123,13 +136,17 @@ public class ElectricFurnaceBlockEntity extends UpdatableBlockEntity implements
     @Override
     public void endTick() {
         super.endTick();
+        this.litStateUpdater.update(this, this.progress > 0);
+    }
 
-        if (this.world == null || this.world.isClient)
-            return;
+    @Override
+    public boolean canSleep() {
+        return this.idle && this.litStateUpdater.isSettled(this, this.progress > 0);
+    }
 
-        boolean running = this.progress > 0;
-        if (getCachedState().get(Properties.LIT) != running)
-            this.world.setBlockState(this.pos, getCachedState().with(Properties.LIT, running), Block.NOTIFY_ALL);
+    @Override
+    public Set<WakeCondition> getWakeConditions() {
+        return WAKE_CONDITIONS;
     }
 
     private boolean canAcceptOutput(RecipeEntry<SmeltingRecipe> recipeEntry, SingleStackRecipeInput recipeInput) {
@@ -5,6 +5,7 @@ import dev.turtywurty.heatapi.api.base.SimpleHeatStorage;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.CachedRecipeLookup;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
@@ -23,12 +24,12 @@ import dev.turtywurty.industria.blockentity.util.inventory.WrappedInventoryStora
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.MultiblockTypeInit;
 import dev.turtywurty.industria.init.list.TagList;
-import dev.turtywurty.industria.multiblock.MultiblockIOPort;
 import dev.turtywurty.industria.multiblock.MultiblockType;
 import dev.turtywurty.industria.multiblock.Multiblockable;
 import dev.turtywurty.industria.multiblock.TransferType;
 import dev.turtywurty.industria.network.BlockPosPayload;
 import dev.turtywurty.industria.recipe.ElectrolyzerRecipe;
+import dev.turtywurty.industria.recipe.RecipeIndexes;
 import dev.turtywurty.industria.recipe.input.ElectrolyzerRecipeInput;
 import dev.turtywurty.industria.screenhandler.ElectrolyzerScreenHandler;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidConstants;
@@ -81,6 +82,8 @@ public class ElectrolyzerBlockEntity extends UpdatableBlockEntity implements Syn
     private FluidStack leftoverOutputFluid = FluidStack.EMPTY;
     private GasStack leftoverOutputGas = GasStack.EMPTY;
 
+    private final CachedRecipeLookup<ElectrolyzerRecipeInput, ElectrolyzerRecipe> recipeLookup;
+
     private final PropertyDelegate propertyDelegate = new PropertyDelegate() {
         @Override
         public int get(int index) {
@@ -122,6 +125,9 @@ public class ElectrolyzerBlockEntity extends UpdatableBlockEntity implements Syn
         this.wrappedGasStorage.addStorage(new OutputGasStorage(this, FluidConstants.BUCKET * 5), Direction.NORTH);
         this.wrappedEnergyStorage.addStorage(new SyncingEnergyStorage(this, 10_000_000, 100_000, 0), Direction.UP);
         this.wrappedHeatStorage.addStorage(new SyncingHeatStorage(this, 1000, 1000, 0), Direction.DOWN);
+
+        this.recipeLookup = new CachedRecipeLookup<>(RecipeIndexes.ELECTROLYZER,
+                getInputInventory(), getAnodeInventory(), getCathodeInventory(), getElectrolyteInventory(), getElectrolyteFluidStorage());
     }
 
     @Override
@@ -262,7 +268,7 @@ public class ElectrolyzerBlockEntity extends UpdatableBlockEntity implements Syn
         if(this.world == null || !(this.world instanceof ServerWorld serverWorld))
             return Optional.empty();
 
-        return serverWorld.getRecipeManager().getFirstMatch(ElectrolyzerRecipe.Type.INSTANCE, recipeInput, serverWorld);
+        return this.recipeLookup.getFirstMatch(serverWorld, recipeInput);
     }
 
     @Override
@@ -432,63 +438,32 @@ public class ElectrolyzerBlockEntity extends UpdatableBlockEntity implements Syn
         return MultiblockTypeInit.ELECTROLYZER;
     }
 
-    // x y z
-    // 3 2 2
-    @Override
-    public List<BlockPos> findPositions(@Nullable Direction facing) {
-        if(this.world == null)
-            return List.of();
-
-        List<BlockPos> positions = new ArrayList<>();
-        List<BlockPos> invalidPositions = new ArrayList<>();
-        for (int x = -1; x <= 1; x++) {
-            for (int z = -1; z <= 0; z++) {
-                for (int y = 0; y <= 1; y++) {
-                    if(x == 0 && z == 0 && y == 0)
-                        continue;
-
-                    BlockPos pos = this.pos.add(x, y, z);
-                    if(this.world.getBlockState(pos).isReplaceable()) {
-                        positions.add(pos);
-                    } else {
-                        invalidPositions.add(pos);
-                    }
-                }
-            }
-        }
-
-        return invalidPositions.isEmpty() ? positions : List.of();
-    }
-
     @Override
     public List<BlockPos> getMultiblockPositions() {
         return this.multiblockPositions;
     }
 
-    @Override
-    public Map<Direction, MultiblockIOPort> getPorts(Vec3i offsetFromPrimary, Direction direction) {
-        Map<Direction, List<TransferType<?, ?, ?>>> transferTypes = new EnumMap<>(Direction.class);
-        Direction left = getCachedState().get(Properties.HORIZONTAL_FACING).rotateYCounterclockwise();
+    public static List<TransferType<?, ?, ?>> getPortTypes(Vec3i offsetFromPrimary, Direction direction, Direction facing) {
+        List<TransferType<?, ?, ?>> transferTypes = new ArrayList<>();
+        Direction left = facing.rotateYCounterclockwise();
         Direction right = left.getOpposite();
 
         if (offsetFromPrimary.getX() * left.getOffsetX() + offsetFromPrimary.getZ() * left.getOffsetZ() > 0 && direction == left) {
-            List<TransferType<?, ?, ?>> types = transferTypes.computeIfAbsent(direction, k -> new ArrayList<>());
-            types.add(TransferType.ITEM);
-            types.add(TransferType.FLUID);
-            types.add(TransferType.ENERGY);
-            types.add(TransferType.HEAT);
+            transferTypes.add(TransferType.ITEM);
+            transferTypes.add(TransferType.FLUID);
+            transferTypes.add(TransferType.ENERGY);
+            transferTypes.add(TransferType.HEAT);
         }
 
         if (offsetFromPrimary.getX() * right.getOffsetX() + offsetFromPrimary.getZ() * right.getOffsetZ() > 0 && direction == right) {
-            List<TransferType<?, ?, ?>> types = transferTypes.computeIfAbsent(direction, k -> new ArrayList<>());
-            types.add(TransferType.FLUID);
-            types.add(TransferType.GAS);
+            transferTypes.add(TransferType.FLUID);
+            transferTypes.add(TransferType.GAS);
         }
 
         if(offsetFromPrimary.getY() == 1 && direction == Direction.UP) {
-            transferTypes.computeIfAbsent(Direction.UP, k -> new ArrayList<>()).add(TransferType.ITEM);
+            transferTypes.add(TransferType.ITEM);
         }
 
-        return Multiblockable.toIOPortMap(transferTypes);
+        return transferTypes;
     }
 }
@@ -6,6 +6,7 @@ import dev.turtywurty.fabricslurryapi.api.storage.SlurryStorage;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityContentsDropper;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
+import dev.turtywurty.industria.blockentity.util.CachedRecipeLookup;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
@@ -26,12 +27,12 @@ import dev.turtywurty.industria.blockentity.util.slurry.WrappedSlurryStorage;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.MultiblockTypeInit;
 import dev.turtywurty.industria.init.RecipeTypeInit;
-import dev.turtywurty.industria.multiblock.MultiblockIOPort;
 import dev.turtywurty.industria.multiblock.MultiblockType;
 import dev.turtywurty.industria.multiblock.Multiblockable;
 import dev.turtywurty.industria.multiblock.TransferType;
 import dev.turtywurty.industria.network.BlockPosPayload;
 import dev.turtywurty.industria.recipe.MixerRecipe;
+import dev.turtywurty.industria.recipe.RecipeIndexes;
 import dev.turtywurty.industria.recipe.input.MixerRecipeInput;
 import dev.turtywurty.industria.screenhandler.MixerScreenHandler;
 import dev.turtywurty.industria.util.TransferUtils;
@@ -115,6 +116,7 @@ public class MixerBlockEntity extends UpdatableBlockEntity implements SyncableTi
     private RegistryKey<Recipe<?>> currentRecipeId;
     private ItemStack outputItemStack = ItemStack.EMPTY;
     private SlurryStack outputSlurryStack = SlurryStack.EMPTY;
+    private final CachedRecipeLookup<MixerRecipeInput, MixerRecipe> recipeLookup;
 
     private final List<BlockPos> multiblockPositions = new ArrayList<>();
 
@@ -165,6 +167,8 @@ public class MixerBlockEntity extends UpdatableBlockEntity implements SyncableTi
                 new OutputSlurryStorage(this, FluidConstants.BUCKET * 10), Direction.DOWN);
 
         this.wrappedEnergyStorage.addStorage(new SyncingEnergyStorage(this, 10_000, 1_000, 0));
+
+        this.recipeLookup = new CachedRecipeLookup<>(RecipeIndexes.MIXER, getInputInventory(), getInputFluidTank());
     }
 
     @Override
@@ -250,9 +254,8 @@ public class MixerBlockEntity extends UpdatableBlockEntity implements SyncableTi
             return;
         }
 
-        MixerRecipeInput recipeInput = createRecipeInput();
         if (this.currentRecipeId == null) {
-            Optional<RecipeEntry<MixerRecipe>> recipeEntry = getCurrentRecipe(recipeInput);
+            Optional<RecipeEntry<MixerRecipe>> recipeEntry = getCurrentRecipe();
             if (recipeEntry.isPresent()) {
                 this.currentRecipeId = recipeEntry.get().id();
                 this.maxProgress = recipeEntry.get().value().processTime();
@@ -263,7 +266,7 @@ public class MixerBlockEntity extends UpdatableBlockEntity implements SyncableTi
             return;
         }
 
-        Optional<RecipeEntry<MixerRecipe>> recipeEntry = getCurrentRecipe(recipeInput);
+        Optional<RecipeEntry<MixerRecipe>> recipeEntry = getCurrentRecipe();
         if (recipeEntry.isEmpty() || !recipeEntry.get().id().equals(this.currentRecipeId)) {
             this.currentRecipeId = null;
             this.maxProgress = 0;
@@ -277,7 +280,7 @@ public class MixerBlockEntity extends UpdatableBlockEntity implements SyncableTi
             if (hasEnergy()) {
                 extractEnergy(recipe);
 
-                ItemStack output = recipe.craft(recipeInput, this.world.getRegistryManager());
+                ItemStack output = recipe.craft(createRecipeInput(), this.world.getRegistryManager());
                 SyncingFluidStorage inputFluidTank = getInputFluidTank();
                 inputFluidTank.amount -= recipe.inputFluid().amount();
 
@@ -361,6 +364,7 @@ public class MixerBlockEntity extends UpdatableBlockEntity implements SyncableTi
 
         if (nbt.contains("Temperature")) {
             this.temperature = nbt.getInt("Temperature", 0);
+            this.recipeLookup.markDirty();
         }
 
         if (nbt.contains("CurrentRecipe")) {
@@ -415,11 +419,11 @@ public class MixerBlockEntity extends UpdatableBlockEntity implements SyncableTi
         return this.temperature;
     }
 
-    private Optional<RecipeEntry<MixerRecipe>> getCurrentRecipe(MixerRecipeInput recipeInput) {
+    private Optional<RecipeEntry<MixerRecipe>> getCurrentRecipe() {
         if (this.world == null || !(this.world instanceof ServerWorld serverWorld))
             return Optional.empty();
 
-        return serverWorld.getRecipeManager().getFirstMatch(RecipeTypeInit.MIXER, recipeInput, this.world);
+        return this.recipeLookup.getFirstMatch(serverWorld, this::createRecipeInput);
     }
 
     private MixerRecipeInput createRecipeInput() {
@@ -454,30 +458,29 @@ public class MixerBlockEntity extends UpdatableBlockEntity implements SyncableTi
         return new MixerScreenHandler(syncId, playerInventory, this, this.wrappedInventoryStorage, this.properties);
     }
 
-    @Override
-    public Map<Direction, MultiblockIOPort> getPorts(Vec3i offsetFromPrimary, Direction direction) {
-        Map<Direction, List<TransferType<?, ?, ?>>> transferTypes = new EnumMap<>(Direction.class);
+    public static List<TransferType<?, ?, ?>> getPortTypes(Vec3i offsetFromPrimary, Direction direction, Direction facing) {
+        List<TransferType<?, ?, ?>> transferTypes = new ArrayList<>();
         if (offsetFromPrimary.getY() == 2 && Multiblockable.isCenterColumn(offsetFromPrimary) && direction == Direction.UP) {
-            transferTypes.computeIfAbsent(direction, k -> new ArrayList<>()).add(TransferType.FLUID);
+            transferTypes.add(TransferType.FLUID);
         }
 
         if (offsetFromPrimary.getY() == 0 && !Multiblockable.isCenterColumn(offsetFromPrimary) && direction == Direction.DOWN) {
-            transferTypes.computeIfAbsent(direction, k -> new ArrayList<>()).add(TransferType.SLURRY);
+            transferTypes.add(TransferType.SLURRY);
         }
 
         if (offsetFromPrimary.getZ() != 0 && offsetFromPrimary.getX() == 0 && offsetFromPrimary.getY() == 0) {
             if (offsetFromPrimary.getZ() == -1 && direction == Direction.EAST) {
-                transferTypes.computeIfAbsent(direction, k -> new ArrayList<>()).add(TransferType.ITEM);
+                transferTypes.add(TransferType.ITEM);
             } else if (offsetFromPrimary.getZ() == 1 && direction == Direction.WEST) {
-                transferTypes.computeIfAbsent(direction, k -> new ArrayList<>()).add(TransferType.ITEM);
+                transferTypes.add(TransferType.ITEM);
             }
         }
 
         if (((offsetFromPrimary.getY() == 2 && direction == Direction.UP) || (offsetFromPrimary.getY() == 0 && direction == Direction.DOWN)) && !Multiblockable.isCenterColumn(offsetFromPrimary)) {
-            transferTypes.computeIfAbsent(direction, k -> new ArrayList<>()).add(TransferType.ENERGY);
+            transferTypes.add(TransferType.ENERGY);
         }
 
-        return Multiblockable.toIOPortMap(transferTypes);
+        return transferTypes;
     }
 
     public SyncingSimpleInventory getInputInventory() {
@@ -539,32 +542,6 @@ public class MixerBlockEntity extends UpdatableBlockEntity implements SyncableTi
         return MultiblockTypeInit.MIXER;
     }
 
-    @Override
-    public List<BlockPos> findPositions(@Nullable Direction facing) {
-        if (this.world == null)
-            return List.of();
-
-        List<BlockPos> positions = new ArrayList<>();
-        List<BlockPos> invalidPositions = new ArrayList<>();
-        for (int x = -1; x < 2; x++) {
-            for (int z = -1; z < 2; z++) {
-                for (int y = 0; y < 3; y++) {
-                    if (x == 0 && y == 0 && z == 0)
-                        continue;
-
-                    BlockPos pos = this.pos.add(x, y, z);
-                    if (this.world.getBlockState(pos).isReplaceable()) {
-                        positions.add(pos);
-                    } else {
-                        invalidPositions.add(pos);
-                    }
-                }
-            }
-        }
-
-        return invalidPositions.isEmpty() ? positions : List.of();
-    }
-
     @Override
     public List<BlockPos> getMultiblockPositions() {
         return this.multiblockPositions;
@@ -3,10 +3,11 @@ package dev.turtywurty.industria.blockentity;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
-import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.energy.SyncingEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.energy.WrappedEnergyStorage;
+import dev.turtywurty.industria.blockentity.util.sleep.SleepableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.network.BlockPosPayload;
 import dev.turtywurty.industria.screenhandler.MotorScreenHandler;
@@ -28,11 +29,15 @@ import org.jetbrains.annotations.Nullable;
 import team.reborn.energy.api.EnergyStorage;
 import team.reborn.energy.api.base.SimpleEnergyStorage;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
-public class MotorBlockEntity extends UpdatableBlockEntity implements SyncableTickableBlockEntity, BlockEntityWithGui<BlockPosPayload> {
+public class MotorBlockEntity extends UpdatableBlockEntity implements SleepableBlockEntity, BlockEntityWithGui<BlockPosPayload> {
     public static final Text TITLE = Industria.containerTitle("motor");
 
+    private static final Set<WakeCondition> WAKE_CONDITIONS = EnumSet.of(WakeCondition.ENERGY_CHANGE);
+
     private final WrappedEnergyStorage wrappedEnergyStorage = new WrappedEnergyStorage();
     private float currentRotationSpeed = 0.0F, targetRotationSpeed = 0.75F;
 
@@ -82,6 +87,17 @@ public class MotorBlockEntity extends UpdatableBlockEntity implements SyncableTi
             update();
     }
 
+    @Override
+    public boolean canSleep() {
+        // Without energy the motor only winds down, so once it has stopped there is nothing left to do
+        return this.currentRotationSpeed == 0.0F && getEnergyStorage().getAmount() == 0;
+    }
+
+    @Override
+    public Set<WakeCondition> getWakeConditions() {
+        return WAKE_CONDITIONS;
+    }
+
     @Override
     public BlockPosPayload getScreenOpeningData(ServerPlayerEntity player) {
         return new BlockPosPayload(this.pos);
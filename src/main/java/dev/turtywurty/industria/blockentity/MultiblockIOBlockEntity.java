@@ -5,15 +5,20 @@ import dev.turtywurty.industria.blockentity.util.TickableBlockEntity;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.multiblock.MultiblockIOPort;
 import dev.turtywurty.industria.multiblock.Multiblockable;
+import dev.turtywurty.industria.multiblock.PortTransfer;
+import dev.turtywurty.industria.multiblock.TransferLookupCache;
 import dev.turtywurty.industria.multiblock.TransferType;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.state.property.Properties;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3i;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class MultiblockIOBlockEntity extends BlockEntity implements TickableBlockEntity {
@@ -21,6 +26,9 @@ public class MultiblockIOBlockEntity extends BlockEntity implements TickableBloc
     private Multiblockable multiblock = null;
     private Vec3i offsetFromPrimary = null;
     private boolean waitingForPlayer = true;
+    private final TransferLookupCache transferLookups = new TransferLookupCache();
+    private @Nullable List<PortTransfer<?>> transfers = null;
+    private long nextTransferTime;
 
     public MultiblockIOBlockEntity(BlockPos pos, BlockState state) {
         super(BlockEntityTypeInit.MULTIBLOCK_IO, pos, state);
@@ -44,9 +52,28 @@ public class MultiblockIOBlockEntity extends BlockEntity implements TickableBloc
             }
         }
 
-        if(this.multiblock == null || this.world.isClient)
+        if(this.multiblock == null || !(this.world instanceof ServerWorld serverWorld))
             return;
 
+        if(this.transfers == null) {
+            this.transfers = resolveTransfers(serverWorld);
+        }
+
+        // Every transfer is asleep until at least this time, so there is nothing to do
+        long time = serverWorld.getTime();
+        if(time < this.nextTransferTime)
+            return;
+
+        long nextTransferTime = Long.MAX_VALUE;
+        for (PortTransfer<?> transfer : this.transfers) {
+            nextTransferTime = Math.min(nextTransferTime, transfer.tick(time));
+        }
+
+        this.nextTransferTime = nextTransferTime;
+    }
+
+    private List<PortTransfer<?>> resolveTransfers(ServerWorld world) {
+        List<PortTransfer<?>> transfers = new ArrayList<>();
         for (Direction direction : Direction.values()) {
             Map<Direction, MultiblockIOPort> ports = getPorts(direction);
             if(ports == null)
@@ -56,8 +83,24 @@ public class MultiblockIOBlockEntity extends BlockEntity implements TickableBloc
             if(port == null)
                 continue;
 
-            port.tick(this.world, this.pos, this.primary.getPos());
+            port.resolveTransfers(world, this.pos, this.primary.getPos(), this.transferLookups, transfers);
         }
+
+        return List.copyOf(transfers);
+    }
+
+    /**
+     * Wakes every port transfer, for when something next to this block has changed.
+     */
+    public void wakeTransfers() {
+        if(this.transfers == null)
+            return;
+
+        for (PortTransfer<?> transfer : this.transfers) {
+            transfer.wake();
+        }
+
+        this.nextTransferTime = 0;
     }
 
     public Map<Direction, MultiblockIOPort> getPorts(Direction direction) {
@@ -7,6 +7,7 @@ import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.MultiblockTypeInit;
+import dev.turtywurty.industria.multiblock.MultiblockTemplate;
 import dev.turtywurty.industria.multiblock.MultiblockType;
 import dev.turtywurty.industria.multiblock.Multiblockable;
 import dev.turtywurty.industria.network.BlockPosPayload;
@@ -24,7 +25,6 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
-import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
@@ -115,15 +115,14 @@ public class OilPumpJackBlockEntity extends UpdatableBlockEntity implements Sync
         return this.machinePositions;
     }
 
-    @Override
-    public List<BlockPos> findPositions(Direction facing) {
-        if (this.world == null)
-            return List.of();
-
-        List<BlockPos> correctPositions = new ArrayList<>();
-        List<BlockPos> incorrectPositions = new ArrayList<>();
+    /**
+     * Creates the template for the pump jack, laid out relative to a primary block facing {@link Direction#NORTH}.
+     */
+    public static MultiblockTemplate.Builder createTemplate() {
+        var template = new MultiblockTemplate.Builder();
+        Direction facing = Direction.NORTH;
+        BlockPos origin = BlockPos.ORIGIN;
 
-        var mutablePos = new BlockPos.Mutable();
         for (int k = 0; k <= 2; k++) {
             for (int i = -4; i <= 3; i++) {
                 for (int j = -1; j <= 1; j++) {
@@ -133,25 +132,13 @@ public class OilPumpJackBlockEntity extends UpdatableBlockEntity implements Sync
                     if (i == 3 && j == 0 && k == 2)
                         continue;
 
-                    // check east and west sides (relative to facing)
+                    // east and west sides (relative to facing)
                     if (i == 3 && j != 0 && k == 0) {
-                        BlockPos checkPos = this.pos.offset(facing, i)
-                                .offset(j > 0 ? facing.rotateYCounterclockwise() : facing.rotateYClockwise(), 2);
-
-                        if (isValidPosition(this.world, checkPos)) {
-                            correctPositions.add(checkPos);
-                        } else {
-                            incorrectPositions.add(checkPos);
-                        }
+                        template.offset(origin.offset(facing, i)
+                                .offset(j > 0 ? facing.rotateYCounterclockwise() : facing.rotateYClockwise(), 2));
                     }
 
-                    mutablePos.set(this.pos.offset(facing, i).offset(facing.rotateYCounterclockwise(), j).offset(Direction.UP, k));
-
-                    if (isValidPosition(this.world, mutablePos)) {
-                        correctPositions.add(mutablePos.toImmutable());
-                    } else {
-                        incorrectPositions.add(mutablePos.toImmutable());
-                    }
+                    template.offset(origin.offset(facing, i).offset(facing.rotateYCounterclockwise(), j).offset(Direction.UP, k));
                 }
             }
         }
@@ -161,69 +148,34 @@ public class OilPumpJackBlockEntity extends UpdatableBlockEntity implements Sync
                 if (i == -3 && j == 0)
                     continue;
 
-                mutablePos.set(this.pos.offset(facing, i).offset(facing.rotateYCounterclockwise(), j).offset(Direction.UP, 3));
-                if (isValidPosition(this.world, mutablePos)) {
-                    correctPositions.add(mutablePos.toImmutable());
-                } else {
-                    incorrectPositions.add(mutablePos.toImmutable());
-                }
+                template.offset(origin.offset(facing, i).offset(facing.rotateYCounterclockwise(), j).offset(Direction.UP, 3));
             }
         }
 
         for (int i = -1; i <= 2; i++) {
             for (int j = 0; j <= 3; j++) {
-                mutablePos.set(this.pos.offset(facing, i).offset(Direction.UP, 4 + j));
+                BlockPos pos = origin.offset(facing, i).offset(Direction.UP, 4 + j);
                 if (((i == -1 && j < 2) || (i == 2 && j == 0))) {
-                    // check east and west sides (relative to facing)
-                    BlockPos immutablePos = mutablePos.toImmutable();
-                    BlockPos eastPos = immutablePos.offset(facing.rotateYClockwise());
-                    BlockPos westPos = immutablePos.offset(facing.rotateYCounterclockwise());
-                    if (isValidPosition(this.world, eastPos)) {
-                        correctPositions.add(eastPos);
-                    } else {
-                        incorrectPositions.add(eastPos);
-                    }
-
-                    if (isValidPosition(this.world, westPos)) {
-                        correctPositions.add(westPos);
-                    } else {
-                        incorrectPositions.add(westPos);
-                    }
+                    // east and west sides (relative to facing)
+                    template.offset(pos.offset(facing.rotateYClockwise()));
+                    template.offset(pos.offset(facing.rotateYCounterclockwise()));
                 }
 
-                if (isValidPosition(this.world, mutablePos)) {
-                    correctPositions.add(mutablePos.toImmutable());
-                } else {
-                    incorrectPositions.add(mutablePos.toImmutable());
-                }
+                template.offset(pos);
             }
         }
 
         for (int i = 0; i < 2; i++) {
             for (int j = 0; j <= 4; j++) {
-                mutablePos.set(this.pos.offset(facing, 4 + i).offset(Direction.UP, 4 + j));
-
+                BlockPos pos = origin.offset(facing, 4 + i).offset(Direction.UP, 4 + j);
                 if (i == 0 && j > 1 && j < 4) {
-                    BlockPos checkPos = mutablePos.offset(facing.getOpposite());
-                    if (isValidPosition(this.world, checkPos)) {
-                        correctPositions.add(checkPos);
-                    } else {
-                        incorrectPositions.add(checkPos);
-                    }
+                    template.offset(pos.offset(facing.getOpposite()));
                 }
 
-                if (isValidPosition(this.world, mutablePos)) {
-                    correctPositions.add(mutablePos.toImmutable());
-                } else {
-                    incorrectPositions.add(mutablePos.toImmutable());
-                }
+                template.offset(pos);
             }
         }
 
-        return incorrectPositions.isEmpty() ? correctPositions : incorrectPositions;
-    }
-
-    private static boolean isValidPosition(World world, BlockPos position) {
-        return world.getBlockState(position).isReplaceable();
+        return template;
     }
 }
@@ -44,68 +44,6 @@ public class RotaryKilnBlockEntity extends UpdatableBlockEntity implements Multi
         Multiblockable.readMultiblockFromNbt(this, nbt.getListOrEmpty("MachinePositions"));
     }
 
-    @Override
-    public List<BlockPos> findPositions(@Nullable Direction facing) {
-        if(this.world == null || this.world.isClient)
-            return List.of();
-
-        // 5x5x1 structure
-        List<BlockPos> positions = new ArrayList<>();
-        List<BlockPos> invalidPositions = new ArrayList<>();
-
-        int widthRange = 2;  // -2 to 2 = 5 blocks
-        int heightRange = 4; // 0 to 4 = 5 blocks
-        int depthRange = 0;  // 0 only = 1 block
-
-        if (facing == null)
-            throw new NullPointerException("Unexpected facing direction: null");
-
-        // Define axis-aligned directions based on facing
-        Direction right, forward;
-        switch (facing) {
-            case NORTH -> {
-                right = Direction.EAST;
-                forward = Direction.NORTH;
-            }
-            case SOUTH -> {
-                right = Direction.WEST;
-                forward = Direction.SOUTH;
-            }
-            case EAST -> {
-                right = Direction.SOUTH;
-                forward = Direction.EAST;
-            }
-            case WEST -> {
-                right = Direction.NORTH;
-                forward = Direction.WEST;
-            }
-            default -> throw new IllegalStateException("Unexpected facing direction: " + facing);
-        }
-
-        // The main loop structure is the same for all directions
-        for (int w = -widthRange; w <= widthRange; w++) {
-            for (int h = 0; h <= heightRange; h++) {
-                for (int d = 0; d <= depthRange; d++) {
-                    if(w == 0 && h == 0 && d == 0)
-                        continue;
-
-                    BlockPos pos = this.pos
-                            .offset(right, w)
-                            .offset(Direction.UP, h)
-                            .offset(forward, d);
-
-                    if (this.world.getBlockState(pos).isReplaceable()) {
-                        positions.add(pos);
-                    } else {
-                        invalidPositions.add(pos);
-                    }
-                }
-            }
-        }
-
-        return invalidPositions.isEmpty() ? positions : List.of();
-    }
-
     @Override
     public List<BlockPos> getMultiblockPositions() {
         return this.multiblockPositions;
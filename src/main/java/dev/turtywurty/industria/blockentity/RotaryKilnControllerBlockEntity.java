@@ -16,10 +16,10 @@ import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.BlockInit;
 import dev.turtywurty.industria.init.MultiblockTypeInit;
 import dev.turtywurty.industria.init.RecipeTypeInit;
-import dev.turtywurty.industria.multiblock.MultiblockIOPort;
 import dev.turtywurty.industria.multiblock.MultiblockType;
 import dev.turtywurty.industria.multiblock.Multiblockable;
 import dev.turtywurty.industria.multiblock.TransferType;
+import dev.turtywurty.industria.recipe.RecipeIndexes;
 import dev.turtywurty.industria.recipe.RotaryKilnRecipe;
 import dev.turtywurty.industria.recipe.input.SingleItemStackRecipeInput;
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
@@ -199,49 +199,6 @@ public class RotaryKilnControllerBlockEntity extends UpdatableBlockEntity implem
         return MultiblockTypeInit.ROTARY_KILN_CONTROLLER;
     }
 
-    @Override
-    public List<BlockPos> findPositions(@Nullable Direction facing) {
-        if (this.world == null || this.world.isClient)
-            return List.of();
-
-        // 5x5x1 structure
-        List<BlockPos> positions = new ArrayList<>();
-        List<BlockPos> invalidPositions = new ArrayList<>();
-
-        int widthRange = 2;  // -2 to 2 = 5 blocks
-        int heightRange = 4; // 0 to 4 = 5 blocks
-        int depthRange = 0;  // 0 only = 1 block
-
-        if (facing == null)
-            throw new NullPointerException("Unexpected facing direction: null");
-
-        // Define axis-aligned directions based on facing
-        Direction right = facing.rotateYClockwise();
-
-        // The main loop structure is the same for all directions
-        for (int w = -widthRange; w <= widthRange; w++) {
-            for (int h = 0; h <= heightRange; h++) {
-                for (int d = 0; d <= depthRange; d++) {
-                    if (w == 0 && h == 0 && d == 0)
-                        continue;
-
-                    BlockPos pos = this.pos
-                            .offset(right, w)
-                            .offset(Direction.UP, h)
-                            .offset(facing, d);
-
-                    if (this.world.getBlockState(pos).isReplaceable()) {
-                        positions.add(pos);
-                    } else {
-                        invalidPositions.add(pos);
-                    }
-                }
-            }
-        }
-
-        return invalidPositions.isEmpty() ? positions : List.of();
-    }
-
     @Override
     public List<BlockPos> getMultiblockPositions() {
         return this.multiblockPositions;
@@ -410,21 +367,17 @@ public class RotaryKilnControllerBlockEntity extends UpdatableBlockEntity implem
     }
 
     public Optional<RecipeEntry<RotaryKilnRecipe>> getMatchingRecipe(ItemStack stack) {
-        ServerRecipeManager recipeManager = getRecipeManager(this.world);
-        if (recipeManager == null)
+        if (!(this.world instanceof ServerWorld serverWorld))
             return Optional.empty();
 
-        return recipeManager.getFirstMatch(RecipeTypeInit.ROTARY_KILN, SingleItemStackRecipeInput.of(stack), this.world);
+        return RecipeIndexes.ROTARY_KILN.getFirstMatch(SingleItemStackRecipeInput.of(stack), serverWorld);
     }
 
-    @Override
-    public Map<Direction, MultiblockIOPort> getPorts(Vec3i offsetFromPrimary, Direction direction) {
-        Map<Direction, List<TransferType<?, ?, ?>>> transferTypes = new EnumMap<>(Direction.class);
-        if (Multiblockable.isCenterColumn(offsetFromPrimary) && offsetFromPrimary.getY() == 4 && direction == Direction.UP) {
-            transferTypes.put(direction, List.of(TransferType.ITEM));
-        }
+    public static List<TransferType<?, ?, ?>> getPortTypes(Vec3i offsetFromPrimary, Direction direction, Direction facing) {
+        if (Multiblockable.isCenterColumn(offsetFromPrimary) && offsetFromPrimary.getY() == 4 && direction == Direction.UP)
+            return List.of(TransferType.ITEM);
 
-        return Multiblockable.toIOPortMap(transferTypes);
+        return List.of();
     }
 
     public InventoryStorage getInventoryProvider(Direction side) {
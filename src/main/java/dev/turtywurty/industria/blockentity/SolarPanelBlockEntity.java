@@ -5,6 +5,7 @@ import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.energy.EnergyNeighbourCache;
 import dev.turtywurty.industria.blockentity.util.energy.EnergySpreader;
 import dev.turtywurty.industria.blockentity.util.energy.SyncingEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.energy.WrappedEnergyStorage;
@@ -36,6 +37,7 @@ public class SolarPanelBlockEntity extends UpdatableBlockEntity implements Synca
     public static final Text TITLE = Industria.containerTitle("solar_panel");
 
     private final WrappedEnergyStorage energy = new WrappedEnergyStorage();
+    private final EnergyNeighbourCache energyNeighbourCache = new EnergyNeighbourCache();
 
     public SolarPanelBlockEntity(BlockPos pos, BlockState state) {
         super(BlockEntityTypeInit.SOLAR_PANEL, pos, state);
@@ -88,7 +90,7 @@ public class SolarPanelBlockEntity extends UpdatableBlockEntity implements Synca
             int outputSignal = getEnergyOutput();
             energyStorage.amount += MathHelper.clamp(outputSignal, 0, energyStorage.getCapacity() - currentEnergy);
             if (currentEnergy != energyStorage.getAmount())
-                update();
+                updateThrottled();
         }
 
         spread(this.world, this.pos, energyStorage);
@@ -155,6 +157,11 @@ public class SolarPanelBlockEntity extends UpdatableBlockEntity implements Synca
         return getEnergyOutput(dayTime, isRaining, isThundering, skylight);
     }
 
+    @Override
+    public EnergyNeighbourCache getEnergyNeighbourCache() {
+        return this.energyNeighbourCache;
+    }
+
     public EnergyStorage getEnergyProvider(Direction direction) {
         return this.energy.getStorage(direction);
     }
@@ -6,6 +6,7 @@ import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.energy.EnergyNeighbourCache;
 import dev.turtywurty.industria.blockentity.util.energy.EnergySpreader;
 import dev.turtywurty.industria.blockentity.util.energy.SyncingEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.energy.WrappedEnergyStorage;
@@ -54,6 +55,7 @@ public class ThermalGeneratorBlockEntity extends UpdatableBlockEntity implements
     private static final int CONSUME_RATE = 500;
 
     private final WrappedEnergyStorage wrappedEnergyStorage = new WrappedEnergyStorage();
+    private final EnergyNeighbourCache energyNeighbourCache = new EnergyNeighbourCache();
     private final WrappedFluidStorage<SingleFluidStorage> wrappedFluidStorage = new WrappedFluidStorage<>();
     private final WrappedInventoryStorage<SimpleInventory> wrappedInventoryStorage = new WrappedInventoryStorage<>();
 
@@ -197,6 +199,11 @@ public class ThermalGeneratorBlockEntity extends UpdatableBlockEntity implements
         return getCachedState().getBlock();
     }
 
+    @Override
+    public EnergyNeighbourCache getEnergyNeighbourCache() {
+        return this.energyNeighbourCache;
+    }
+
     public EnergyStorage getEnergyProvider(Direction direction) {
         return this.wrappedEnergyStorage.getStorage(direction);
     }
@@ -14,7 +14,6 @@ import dev.turtywurty.industria.blockentity.util.inventory.SyncingSimpleInventor
 import dev.turtywurty.industria.blockentity.util.inventory.WrappedInventoryStorage;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.init.MultiblockTypeInit;
-import dev.turtywurty.industria.multiblock.MultiblockIOPort;
 import dev.turtywurty.industria.multiblock.MultiblockType;
 import dev.turtywurty.industria.multiblock.Multiblockable;
 import dev.turtywurty.industria.multiblock.TransferType;
@@ -369,24 +368,6 @@ public class UpgradeStationBlockEntity extends UpdatableBlockEntity implements B
         return MultiblockTypeInit.UPGRADE_STATION;
     }
 
-    @Override
-    public List<BlockPos> findPositions(@Nullable Direction facing) {
-        List<BlockPos> positions = new ArrayList<>();
-        positions.add(this.pos.up());
-
-        for (int x = -1; x <= 1; x++) {
-            for (int z = -1; z <= 2; z++) {
-                if (x == 0 && z == 0) {
-                    continue;
-                }
-
-                positions.add(this.pos.add(x, 0, z));
-            }
-        }
-
-        return positions;
-    }
-
     @Override
     public List<BlockPos> getMultiblockPositions() {
         return this.multiblockPositions;
@@ -429,14 +410,6 @@ public class UpgradeStationBlockEntity extends UpdatableBlockEntity implements B
         return this.progress;
     }
 
-    @Override
-    public Map<Direction, MultiblockIOPort> getPorts(Vec3i offsetFromPrimary, Direction direction) {
-        Map<Direction, MultiblockIOPort> ports = new EnumMap<>(Direction.class);
-        ports.put(direction, new MultiblockIOPort(direction, TransferType.ENERGY));
-
-        return ports;
-    }
-
     @Override
     public WrappedInventoryStorage<SimpleInventory> getWrappedInventoryStorage() {
         return this.wrappedInventoryStorage;
@@ -5,6 +5,7 @@ import dev.turtywurty.industria.block.abstraction.BlockEntityWithGui;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.energy.EnergyNeighbourCache;
 import dev.turtywurty.industria.blockentity.util.energy.EnergySpreader;
 import dev.turtywurty.industria.blockentity.util.energy.SyncingEnergyStorage;
 import dev.turtywurty.industria.blockentity.util.energy.WrappedEnergyStorage;
@@ -41,6 +42,7 @@ public class WindTurbineBlockEntity extends UpdatableBlockEntity implements Sync
     public static final Text TITLE = Industria.containerTitle("wind_turbine");
 
     private final WrappedEnergyStorage energy = new WrappedEnergyStorage();
+    private final EnergyNeighbourCache energyNeighbourCache = new EnergyNeighbourCache();
 
     private float windSpeed = -1F;
     private float propellerRotation = 0F; // Client side only
@@ -89,7 +91,7 @@ public class WindTurbineBlockEntity extends UpdatableBlockEntity implements Sync
         long currentEnergy = storage.getAmount();
         storage.amount = MathHelper.clamp(storage.amount + output, 0, storage.capacity);
         if (currentEnergy != storage.amount) {
-            update();
+            updateThrottled();
         }
 
         spread(this.world, this.pos, storage);
@@ -146,6 +148,11 @@ public class WindTurbineBlockEntity extends UpdatableBlockEntity implements Sync
         return this.windSpeed;
     }
 
+    @Override
+    public EnergyNeighbourCache getEnergyNeighbourCache() {
+        return this.energyNeighbourCache;
+    }
+
     public EnergyStorage getEnergyProvider(Direction direction) {
         return this.energy.getStorage(direction);
     }
@@ -0,0 +1,287 @@
+package dev.turtywurty.industria.blockentity.util;
+
+import dev.turtywurty.industria.mixin.loot.*;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.loot.LootPool;
+import net.minecraft.loot.LootTable;
+import net.minecraft.loot.condition.InvertedLootCondition;
+import net.minecraft.loot.condition.LootCondition;
+import net.minecraft.loot.condition.LootConditionType;
+import net.minecraft.loot.condition.LootConditionTypes;
+import net.minecraft.loot.context.LootContextParameters;
+import net.minecraft.loot.context.LootContextTypes;
+import net.minecraft.loot.context.LootWorldContext;
+import net.minecraft.loot.entry.LootPoolEntry;
+import net.minecraft.loot.entry.LootPoolEntryType;
+import net.minecraft.loot.entry.LootPoolEntryTypes;
+import net.minecraft.loot.function.ConditionalLootFunction;
+import net.minecraft.loot.function.LootFunction;
+import net.minecraft.loot.function.LootFunctionType;
+import net.minecraft.loot.function.LootFunctionTypes;
+import net.minecraft.loot.provider.number.LootNumberProvider;
+import net.minecraft.loot.provider.number.LootNumberProviderTypes;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.random.Random;
+import net.minecraft.util.math.random.RandomSplitter;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * The drops of blocks broken by machines, as if mined with a diamond pickaxe.
+ * <p>
+ * The drops of a block state are kept and copied for every following block of that state, instead of rolling the loot
+ * table again, when they are known to be the same every time. That takes two things:
+ * <ul>
+ *     <li>The loot table only uses entries, conditions, functions and roll counts that depend on nothing but the block
+ *     state and the tool, which is always the same. Anything else, such as a location, time or weather check, or
+ *     anything else that reads the position, rules the table out before it is rolled.</li>
+ *     <li>Rolling it didn't use the random, which is checked with a random that notices whether it was used.</li>
+ * </ul>
+ * States with a block entity are never kept, as their drops can depend on its contents. This is cleared whenever the
+ * loot tables are reloaded.
+ */
+public class BlockDropCache {
+    private static final Reference2ObjectOpenHashMap<BlockState, List<ItemStack>> FIXED_DROPS = new Reference2ObjectOpenHashMap<>();
+    private static final Set<BlockState> UNCACHEABLE = new ReferenceOpenHashSet<>();
+    private static final Reference2BooleanOpenHashMap<LootTable> CONTEXT_INDEPENDENT = new Reference2BooleanOpenHashMap<>();
+
+    private static @Nullable ItemStack tool;
+
+    /**
+     * @param world       The world the block is in.
+     * @param pos         The position of the block.
+     * @param state       The state of the block.
+     * @param blockEntity The block entity of the machine breaking the block.
+     * @return The drops, as a new mutable list of new stacks.
+     */
+    public static List<ItemStack> getDrops(ServerWorld world, BlockPos pos, BlockState state, @Nullable BlockEntity blockEntity) {
+        List<ItemStack> fixedDrops = FIXED_DROPS.get(state);
+        if (fixedDrops != null)
+            return copy(fixedDrops);
+
+        var builder = new LootWorldContext.Builder(world)
+                .add(LootContextParameters.ORIGIN, pos.toCenterPos())
+                .add(LootContextParameters.BLOCK_STATE, state)
+                .add(LootContextParameters.TOOL, getTool())
+                .addOptional(LootContextParameters.BLOCK_ENTITY, blockEntity);
+
+        Optional<RegistryKey<LootTable>> lootTableKey = state.getBlock().getLootTableKey();
+        if (state.hasBlockEntity() || UNCACHEABLE.contains(state) || lootTableKey.isEmpty())
+            return new ArrayList<>(state.getDroppedStacks(builder));
+
+        LootTable lootTable = world.getServer().getReloadableRegistries().getLootTable(lootTableKey.get());
+        if (!isContextIndependent(lootTable)) {
+            UNCACHEABLE.add(state);
+            return new ArrayList<>(state.getDroppedStacks(builder));
+        }
+
+        var random = new UseTrackingRandom(world.getRandom());
+        List<ItemStack> drops = new ArrayList<>(lootTable.generateLoot(builder.build(LootContextTypes.BLOCK), random));
+        if (random.wasUsed()) {
+            UNCACHEABLE.add(state);
+        } else {
+            FIXED_DROPS.put(state, copy(drops));
+        }
+
+        return drops;
+    }
+
+    public static void clear() {
+        FIXED_DROPS.clear();
+        UNCACHEABLE.clear();
+        CONTEXT_INDEPENDENT.clear();
+    }
+
+    private static boolean isContextIndependent(LootTable lootTable) {
+        if (CONTEXT_INDEPENDENT.containsKey(lootTable))
+            return CONTEXT_INDEPENDENT.getBoolean(lootTable);
+
+        boolean independent = checkContextIndependent(lootTable);
+        CONTEXT_INDEPENDENT.put(lootTable, independent);
+        return independent;
+    }
+
+    private static boolean checkContextIndependent(LootTable lootTable) {
+        var tableAccessor = (LootTableAccessor) lootTable;
+        if (!areFunctionsAllowed(tableAccessor.getFunctions()))
+            return false;
+
+        for (LootPool pool : tableAccessor.getPools()) {
+            var poolAccessor = (LootPoolAccessor) pool;
+            if (!isConstant(poolAccessor.getRolls()) || !isConstant(poolAccessor.getBonusRolls()))
+                return false;
+
+            if (!areConditionsAllowed(poolAccessor.getConditions()) || !areFunctionsAllowed(poolAccessor.getFunctions()))
+                return false;
+
+            for (LootPoolEntry entry : poolAccessor.getEntries()) {
+                if (!isEntryAllowed(entry))
+                    return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean isEntryAllowed(LootPoolEntry entry) {
+        if (!areConditionsAllowed(((LootPoolEntryAccessor) entry).getConditions()))
+            return false;
+
+        LootPoolEntryType type = entry.getType();
+        if (type == LootPoolEntryTypes.ITEM || type == LootPoolEntryTypes.EMPTY)
+            return areFunctionsAllowed(((LeafEntryAccessor) entry).getFunctions());
+
+        if (type == LootPoolEntryTypes.ALTERNATIVES) {
+            for (LootPoolEntry child : ((CombinedEntryAccessor) entry).getChildren()) {
+                if (!isEntryAllowed(child))
+                    return false;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    private static boolean areConditionsAllowed(List<LootCondition> conditions) {
+        for (LootCondition condition : conditions) {
+            if (!isConditionAllowed(condition))
+                return false;
+        }
+
+        return true;
+    }
+
+    // Without an explosion, surviving one always passes, and the tool and block state are the same every time
+    private static boolean isConditionAllowed(LootCondition condition) {
+        LootConditionType type = condition.getType();
+        if (type == LootConditionTypes.INVERTED)
+            return isConditionAllowed(((InvertedLootCondition) condition).term());
+
+        return type == LootConditionTypes.SURVIVES_EXPLOSION ||
+                type == LootConditionTypes.MATCH_TOOL ||
+                type == LootConditionTypes.BLOCK_STATE_PROPERTY;
+    }
+
+    private static boolean areFunctionsAllowed(List<LootFunction> functions) {
+        for (LootFunction function : functions) {
+            if (!isFunctionAllowed(function))
+                return false;
+        }
+
+        return true;
+    }
+
+    private static boolean isFunctionAllowed(LootFunction function) {
+        if (function instanceof ConditionalLootFunction && !areConditionsAllowed(((ConditionalLootFunctionAccessor) function).getConditions()))
+            return false;
+
+        LootFunctionType<?> type = function.getType();
+        if (type == LootFunctionTypes.SET_COUNT)
+            return isConstant(((SetCountLootFunctionAccessor) function).getCountRange());
+
+        // Bonus drops only depend on the enchantments of the tool
+        return type == LootFunctionTypes.EXPLOSION_DECAY || type == LootFunctionTypes.APPLY_BONUS;
+    }
+
+    private static boolean isConstant(LootNumberProvider provider) {
+        return provider.getType() == LootNumberProviderTypes.CONSTANT;
+    }
+
+    private static ItemStack getTool() {
+        if (tool == null) {
+            tool = Items.DIAMOND_PICKAXE.getDefaultStack();
+        }
+
+        return tool;
+    }
+
+    private static List<ItemStack> copy(List<ItemStack> stacks) {
+        List<ItemStack> copies = new ArrayList<>(stacks.size());
+        for (ItemStack stack : stacks) {
+            copies.add(stack.copy());
+        }
+
+        return copies;
+    }
+
+    private static class UseTrackingRandom implements Random {
+        private final Random delegate;
+        private boolean used;
+
+        private UseTrackingRandom(Random delegate) {
+            this.delegate = delegate;
+        }
+
+        public boolean wasUsed() {
+            return this.used;
+        }
+
+        private Random use() {
+            this.used = true;
+            return this.delegate;
+        }
+
+        @Override
+        public Random split() {
+            return use().split();
+        }
+
+        @Override
+        public RandomSplitter nextSplitter() {
+            return use().nextSplitter();
+        }
+
+        @Override
+        public void setSeed(long seed) {
+            use().setSeed(seed);
+        }
+
+        @Override
+        public int nextInt() {
+            return use().nextInt();
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            return use().nextInt(bound);
+        }
+
+        @Override
+        public long nextLong() {
+            return use().nextLong();
+        }
+
+        @Override
+        public boolean nextBoolean() {
+            return use().nextBoolean();
+        }
+
+        @Override
+        public float nextFloat() {
+            return use().nextFloat();
+        }
+
+        @Override
+        public double nextDouble() {
+            return use().nextDouble();
+        }
+
+        @Override
+        public double nextGaussian() {
+            return use().nextGaussian();
+        }
+    }
+}
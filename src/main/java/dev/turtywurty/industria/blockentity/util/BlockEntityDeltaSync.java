@@ -0,0 +1,192 @@
+package dev.turtywurty.industria.blockentity.util;
+
+import dev.turtywurty.industria.config.ServerConfig;
+import dev.turtywurty.industria.network.BlockEntityDeltaPayload;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the changes of {@link UpdatableBlockEntity}s to clients as deltas, instead of re-sending the whole block
+ * entity through {@link World#updateListeners} every time it changes.
+ * <p>
+ * Every top level key of {@link BlockEntity#toInitialChunkDataNbt} is treated as a field. At the end of each world
+ * tick, the fields of every block entity that changed are compared with the fields that were last sent. Only the
+ * fields that differ are queued for the players tracking the chunk of the block entity (those within view distance).
+ * Players that start tracking it later get the full data with the chunk, as usual, which also replaces anything still
+ * queued for that chunk.
+ * <p>
+ * Each player is sent at most {@link ServerConfig#getDeltaSyncBytesPerTick()} bytes of changes per tick, bundled
+ * into one {@link BlockEntityDeltaPayload}. Whatever doesn't fit stays queued, and later changes to the same block
+ * entity are merged into its queued entry rather than queued again, so a busy machine never floods a player.
+ * <p>
+ * The deltas are found by comparing the serialized data rather than by tracking which fields were written to. Block
+ * entities write their whole state in {@code writeNbt}, and their fields (and those of their storages) are changed
+ * directly all over the place, so there is nowhere to reliably record which of them changed.
+ */
+public class BlockEntityDeltaSync {
+    private static final Reference2ObjectMap<ServerWorld, ReferenceLinkedOpenHashSet<UpdatableBlockEntity>> PENDING =
+            new Reference2ObjectOpenHashMap<>();
+    private static final Reference2ObjectMap<ServerWorld, Reference2ObjectMap<ServerPlayerEntity, Long2ObjectLinkedOpenHashMap<BlockEntityDeltaPayload.Entry>>> QUEUED =
+            new Reference2ObjectOpenHashMap<>();
+
+    public static void markChanged(ServerWorld world, UpdatableBlockEntity blockEntity) {
+        ReferenceLinkedOpenHashSet<UpdatableBlockEntity> pending = PENDING.get(world);
+        if (pending == null) {
+            pending = new ReferenceLinkedOpenHashSet<>();
+            PENDING.put(world, pending);
+        }
+
+        pending.add(blockEntity);
+    }
+
+    /**
+     * Queues the changes of every block entity in the world that changed this tick, and sends each player in the
+     * world as much of their queue as their budget allows.
+     *
+     * @param world The world to send the changes of.
+     */
+    public static void flush(ServerWorld world) {
+        ReferenceLinkedOpenHashSet<UpdatableBlockEntity> pending = PENDING.get(world);
+        if (pending != null && !pending.isEmpty()) {
+            queueChanges(world, pending);
+            pending.clear();
+        }
+
+        Reference2ObjectMap<ServerPlayerEntity, Long2ObjectLinkedOpenHashMap<BlockEntityDeltaPayload.Entry>> queued = QUEUED.get(world);
+        if (queued == null || queued.isEmpty())
+            return;
+
+        int budget = getBytesPerTick();
+        ObjectIterator<Reference2ObjectMap.Entry<ServerPlayerEntity, Long2ObjectLinkedOpenHashMap<BlockEntityDeltaPayload.Entry>>> iterator =
+                queued.reference2ObjectEntrySet().iterator();
+        while (iterator.hasNext()) {
+            Reference2ObjectMap.Entry<ServerPlayerEntity, Long2ObjectLinkedOpenHashMap<BlockEntityDeltaPayload.Entry>> entry = iterator.next();
+            ServerPlayerEntity player = entry.getKey();
+            // Players that left or changed worlds get the full data with the chunks they track from now on
+            if (player.isRemoved() || player.getWorld() != world) {
+                iterator.remove();
+                continue;
+            }
+
+            Long2ObjectLinkedOpenHashMap<BlockEntityDeltaPayload.Entry> queue = entry.getValue();
+            List<BlockEntityDeltaPayload.Entry> entries = new ArrayList<>();
+            int bytes = 0;
+            while (!queue.isEmpty()) {
+                int size = queue.get(queue.firstLongKey()).getSizeInBytes();
+                // Always send at least one, so that an entry larger than the budget doesn't block the queue
+                if (!entries.isEmpty() && bytes + size > budget)
+                    break;
+
+                entries.add(queue.removeFirst());
+                bytes += size;
+            }
+
+            ServerPlayNetworking.send(player, new BlockEntityDeltaPayload(entries));
+            if (queue.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    private static void queueChanges(ServerWorld world, ReferenceLinkedOpenHashSet<UpdatableBlockEntity> pending) {
+        Reference2ObjectMap<ServerPlayerEntity, Long2ObjectLinkedOpenHashMap<BlockEntityDeltaPayload.Entry>> queued = QUEUED.get(world);
+        if (queued == null) {
+            queued = new Reference2ObjectOpenHashMap<>();
+            QUEUED.put(world, queued);
+        }
+
+        for (UpdatableBlockEntity blockEntity : pending) {
+            if (blockEntity.isRemoved() || blockEntity.getWorld() != world)
+                continue;
+
+            BlockEntityDeltaPayload.Entry entry = blockEntity.createSyncDelta(world.getRegistryManager());
+            if (entry == null)
+                continue;
+
+            long pos = entry.pos().asLong();
+            for (ServerPlayerEntity player : PlayerLookup.tracking(blockEntity)) {
+                Long2ObjectLinkedOpenHashMap<BlockEntityDeltaPayload.Entry> queue = queued.get(player);
+                if (queue == null) {
+                    queue = new Long2ObjectLinkedOpenHashMap<>();
+                    queued.put(player, queue);
+                }
+
+                BlockEntityDeltaPayload.Entry previous = queue.get(pos);
+                queue.put(pos, previous == null ? entry : previous.merge(entry));
+            }
+        }
+    }
+
+    /**
+     * Drops the changes queued for a player in a chunk that has just been sent to them, as the chunk data is newer.
+     * <p>
+     * The chunk data may hold changes that have not been sent to anyone else yet, so the block entities in the chunk
+     * also forget what was last sent. Otherwise a key that later goes back to its last sent value would be left out of
+     * the next delta, and this player would keep the value from the chunk data.
+     *
+     * @param world  The world the chunk is in.
+     * @param player The player the chunk was sent to.
+     * @param chunk  The chunk that was sent.
+     */
+    public static void onChunkSent(ServerWorld world, ServerPlayerEntity player, WorldChunk chunk) {
+        for (BlockEntity blockEntity : chunk.getBlockEntities().values()) {
+            if (blockEntity instanceof UpdatableBlockEntity updatable) {
+                updatable.resetSyncBaseline();
+            }
+        }
+
+        ChunkPos chunkPos = chunk.getPos();
+        Reference2ObjectMap<ServerPlayerEntity, Long2ObjectLinkedOpenHashMap<BlockEntityDeltaPayload.Entry>> queued = QUEUED.get(world);
+        if (queued == null)
+            return;
+
+        Long2ObjectLinkedOpenHashMap<BlockEntityDeltaPayload.Entry> queue = queued.get(player);
+        if (queue == null)
+            return;
+
+        LongIterator iterator = queue.keySet().iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            if (ChunkSectionPos.getSectionCoord(BlockPos.unpackLongX(pos)) == chunkPos.x &&
+                    ChunkSectionPos.getSectionCoord(BlockPos.unpackLongZ(pos)) == chunkPos.z) {
+                iterator.remove();
+            }
+        }
+
+        if (queue.isEmpty()) {
+            queued.remove(player);
+        }
+    }
+
+    private static int getBytesPerTick() {
+        ServerConfig config = ServerConfig.getConfig();
+        return config == null ? ServerConfig.DEFAULT_DELTA_SYNC_BYTES_PER_TICK : config.getDeltaSyncBytesPerTick();
+    }
+
+    public static void clear(ServerWorld world) {
+        PENDING.remove(world);
+        QUEUED.remove(world);
+    }
+
+    public static void clear() {
+        PENDING.clear();
+        QUEUED.clear();
+    }
+}
@@ -0,0 +1,86 @@
+package dev.turtywurty.industria.blockentity.util;
+
+import dev.turtywurty.industria.recipe.RecipeIndex;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.input.RecipeInput;
+import net.minecraft.server.world.ServerWorld;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of the last recipe lookup of a machine, and only looks the recipe up again once the
+ * {@link SyncableStorage#getGeneration() generation} of one of its input storages has changed, the recipes have been
+ * reloaded or {@link #markDirty()} has been called.
+ *
+ * @param <I> The type of recipe input.
+ * @param <R> The type of recipe.
+ */
+public class CachedRecipeLookup<I extends RecipeInput, R extends Recipe<I>> {
+    private final RecipeIndex<I, R> index;
+    private final SyncableStorage[] inputs;
+    private final long[] generations;
+
+    private int reloadGeneration;
+    private boolean dirty = true;
+    private Optional<RecipeEntry<R>> result = Optional.empty();
+
+    /**
+     * @param index  The index to look the recipes up in.
+     * @param inputs Every storage that the recipe input is made from.
+     */
+    public CachedRecipeLookup(RecipeIndex<I, R> index, SyncableStorage... inputs) {
+        this.index = index;
+        this.inputs = inputs;
+        this.generations = new long[inputs.length];
+    }
+
+    public Optional<RecipeEntry<R>> getFirstMatch(ServerWorld world, I input) {
+        if (hasChanged()) {
+            this.result = this.index.getFirstMatch(input, world);
+        }
+
+        return this.result;
+    }
+
+    /**
+     * Same as {@link #getFirstMatch(ServerWorld, RecipeInput)}, but only creates the input if the lookup is redone.
+     */
+    public Optional<RecipeEntry<R>> getFirstMatch(ServerWorld world, Supplier<I> input) {
+        if (hasChanged()) {
+            this.result = this.index.getFirstMatch(input.get(), world);
+        }
+
+        return this.result;
+    }
+
+    /**
+     * Forces the next lookup to be redone, for when an input that is not one of the storages (such as a temperature)
+     * has changed.
+     */
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    private boolean hasChanged() {
+        boolean changed = this.dirty;
+        this.dirty = false;
+
+        int reloadGeneration = RecipeIndex.getReloadGeneration();
+        if (reloadGeneration != this.reloadGeneration) {
+            this.reloadGeneration = reloadGeneration;
+            changed = true;
+        }
+
+        for (int index = 0; index < this.inputs.length; index++) {
+            long generation = this.inputs[index].getGeneration();
+            if (generation != this.generations[index]) {
+                this.generations[index] = generation;
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+}
@@ -0,0 +1,63 @@
+package dev.turtywurty.industria.blockentity.util;
+
+import dev.turtywurty.industria.config.ServerConfig;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.state.property.Properties;
+import net.minecraft.world.World;
+
+/**
+ * Keeps the {@link Properties#LIT} property of a machine's block in step with whether the machine is running.
+ * <p>
+ * The block state is only set when the property actually changes, and going out is held back until the machine has
+ * stopped for {@link ServerConfig#getLitDebounceTicks()} ticks in a row, so that a machine which stops for a tick
+ * between two fuel items (or two recipes) doesn't flicker and relight. Lighting up happens straight away.
+ */
+public class LitStateUpdater {
+    private int stoppedTicks;
+
+    /**
+     * Should be called every tick on the server, whether or not the machine is running.
+     *
+     * @param blockEntity The machine.
+     * @param running     Whether the machine is running this tick.
+     */
+    public void update(BlockEntity blockEntity, boolean running) {
+        World world = blockEntity.getWorld();
+        if (world == null || world.isClient)
+            return;
+
+        BlockState state = blockEntity.getCachedState();
+        if (!state.contains(Properties.LIT))
+            return;
+
+        boolean lit = state.get(Properties.LIT);
+        if (running) {
+            this.stoppedTicks = 0;
+        } else if (lit && ++this.stoppedTicks < getDebounceTicks())
+            return;
+
+        if (lit == running)
+            return;
+
+        this.stoppedTicks = 0;
+
+        // Only the clients need to know, nothing next to the machine cares whether it is lit
+        world.setBlockState(blockEntity.getPos(), state.with(Properties.LIT, running), Block.NOTIFY_LISTENERS);
+    }
+
+    /**
+     * @return Whether the block state already shows whether the machine is running, so that {@link #update} won't
+     * change it however long it keeps being called with the same value.
+     */
+    public boolean isSettled(BlockEntity blockEntity, boolean running) {
+        BlockState state = blockEntity.getCachedState();
+        return !state.contains(Properties.LIT) || state.get(Properties.LIT) == running;
+    }
+
+    private static int getDebounceTicks() {
+        ServerConfig config = ServerConfig.getConfig();
+        return config == null ? ServerConfig.DEFAULT_LIT_DEBOUNCE_TICKS : config.getLitDebounceTicks();
+    }
+}
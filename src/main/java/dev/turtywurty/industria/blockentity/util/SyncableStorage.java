@@ -2,4 +2,12 @@ package dev.turtywurty.industria.blockentity.util;
 
 public interface SyncableStorage {
     void sync();
+
+    /**
+     * Gets the generation of the contents of this storage, which increases whenever the contents have changed since
+     * the last call. This also notices changes that were made to the fields directly, without a transaction.
+     *
+     * @return The current generation.
+     */
+    long getGeneration();
 }
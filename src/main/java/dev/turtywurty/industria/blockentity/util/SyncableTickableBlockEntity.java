@@ -1,5 +1,10 @@
 package dev.turtywurty.industria.blockentity.util;
 
+import dev.turtywurty.industria.blockentity.util.sleep.MachineSleep;
+import dev.turtywurty.industria.blockentity.util.sleep.SleepableBlockEntity;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.world.ServerWorld;
+
 import java.util.List;
 
 public interface SyncableTickableBlockEntity extends TickableBlockEntity {
@@ -9,11 +14,24 @@ public interface SyncableTickableBlockEntity extends TickableBlockEntity {
 
     @Override
     default void tick() {
+        if (this instanceof SleepableBlockEntity && this instanceof BlockEntity blockEntity) {
+            MachineSleep.forget(blockEntity);
+        }
+
         onTick();
         getSyncableStorages().forEach(SyncableStorage::sync);
 
         if(this instanceof UpdatableBlockEntity updatableBlockEntity) {
             updatableBlockEntity.endTick();
         }
+
+        // A throttled change would not be sent until the machine woke up again, so stay awake until it has been
+        if (this instanceof UpdatableBlockEntity updatableBlockEntity && updatableBlockEntity.hasPendingSync())
+            return;
+
+        if (this instanceof SleepableBlockEntity sleepable && sleepable.canSleep()
+                && this instanceof BlockEntity blockEntity && blockEntity.getWorld() instanceof ServerWorld serverWorld) {
+            MachineSleep.sleep(serverWorld, sleepable);
+        }
     }
 }
@@ -1,13 +1,31 @@
 package dev.turtywurty.industria.blockentity.util;
 
+import dev.turtywurty.industria.config.ServerConfig;
+import dev.turtywurty.industria.network.BlockEntityDeltaPayload;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.nbt.NbtElement;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
 
 public class UpdatableBlockEntity extends BlockEntity {
     protected boolean isDirty = false;
+    private boolean hasThrottledUpdate = false;
+    private long lastSyncTime;
+
+    private @Nullable NbtCompound lastSyncedNbt;
+
+    // Client only: the synced data that deltas are applied on top of
+    private @Nullable NbtCompound deltaBaseNbt;
+    private boolean isApplyingDelta = false;
 
     public UpdatableBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state) {
         super(type, pos, state);
@@ -19,24 +37,135 @@ public class UpdatableBlockEntity extends BlockEntity {
             markDirty();
 
             if (this.world != null && !this.world.isClient) {
-                this.world.updateListeners(this.pos, getCachedState(), getCachedState(), Block.NOTIFY_ALL);
+                syncToClients();
             }
         }
     }
 
+    /**
+     * Like {@link #update()}, but for changes that are not visible in the world, such as the amount of energy that is
+     * stored. These are sent to the clients at most once every {@link ServerConfig#getSyncInterval()} ticks, together
+     * with any other changes, instead of at the end of every tick they happen in.
+     */
+    public void updateThrottled() {
+        if (!shouldWaitForEndTick()) {
+            update();
+            return;
+        }
+
+        this.hasThrottledUpdate = true;
+    }
+
+    /**
+     * @return Whether there are changes that have not been sent to the clients yet, because they were throttled.
+     */
+    public boolean hasPendingSync() {
+        return this.isDirty || this.hasThrottledUpdate;
+    }
+
     public boolean shouldWaitForEndTick() {
         return true;
     }
 
     public void endTick() {
-        if (this.isDirty) {
+        if (!this.isDirty && !this.hasThrottledUpdate)
+            return;
+
+        markDirty();
+
+        if (this.world == null) {
             this.isDirty = false;
+            this.hasThrottledUpdate = false;
+            return;
+        }
 
-            markDirty();
+        // Throttled updates wait for the sync interval, unless they can be sent along with a normal update
+        if (this.isDirty || this.world.getTime() - this.lastSyncTime >= getSyncInterval()) {
+            this.isDirty = false;
+            this.hasThrottledUpdate = false;
+            syncToClients();
+        }
+    }
 
-            if (this.world != null) {
-                this.world.updateListeners(this.pos, getCachedState(), getCachedState(), Block.NOTIFY_ALL);
+    private static int getSyncInterval() {
+        ServerConfig config = ServerConfig.getConfig();
+        return config == null ? ServerConfig.DEFAULT_SYNC_INTERVAL : config.getSyncInterval();
+    }
+
+    private void syncToClients() {
+        this.lastSyncTime = this.world.getTime();
+        if (this.world instanceof ServerWorld serverWorld) {
+            BlockEntityDeltaSync.markChanged(serverWorld, this);
+        } else {
+            this.world.updateListeners(this.pos, getCachedState(), getCachedState(), Block.NOTIFY_ALL);
+        }
+    }
+
+    /**
+     * Applies changes sent by {@link BlockEntityDeltaSync} on the client. The data they are applied to is kept
+     * between deltas, so it only has to be written out again after something else (such as the chunk data) was read.
+     */
+    public void applySyncDelta(BlockEntityDeltaPayload.Entry entry, RegistryWrapper.WrapperLookup registries) {
+        if (this.deltaBaseNbt == null) {
+            this.deltaBaseNbt = createNbt(registries);
+        }
+
+        entry.apply(this.deltaBaseNbt);
+
+        this.isApplyingDelta = true;
+        try {
+            read(this.deltaBaseNbt, registries);
+        } finally {
+            this.isApplyingDelta = false;
+        }
+    }
+
+    @Override
+    protected void readNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup registries) {
+        super.readNbt(nbt, registries);
+        if (!this.isApplyingDelta) {
+            this.deltaBaseNbt = null;
+        }
+    }
+
+    /**
+     * Forgets the data that was last sent, so that the next delta carries every key. Used when the chunk is sent to a
+     * player, who may then hold a value the other players were never sent.
+     */
+    void resetSyncBaseline() {
+        this.lastSyncedNbt = null;
+    }
+
+    /**
+     * Compares the sync data of this block entity with the data that was last sent.
+     *
+     * @return The top level keys that changed, or {@code null} if nothing changed.
+     */
+    @Nullable BlockEntityDeltaPayload.Entry createSyncDelta(RegistryWrapper.WrapperLookup registries) {
+        NbtCompound nbt = toInitialChunkDataNbt(registries);
+        NbtCompound previous = this.lastSyncedNbt;
+        this.lastSyncedNbt = nbt;
+        if (previous == null)
+            return new BlockEntityDeltaPayload.Entry(this.pos, nbt, List.of());
+
+        var changed = new NbtCompound();
+        for (String key : nbt.getKeys()) {
+            NbtElement element = nbt.get(key);
+            if (!element.equals(previous.get(key))) {
+                changed.put(key, element);
             }
         }
+
+        List<String> removed = new ArrayList<>();
+        for (String key : previous.getKeys()) {
+            if (!nbt.contains(key)) {
+                removed.add(key);
+            }
+        }
+
+        if (changed.isEmpty() && removed.isEmpty())
+            return null;
+
+        return new BlockEntityDeltaPayload.Entry(this.pos, changed, removed);
     }
 }
@@ -0,0 +1,72 @@
+package dev.turtywurty.industria.blockentity.util.energy;
+
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import org.jetbrains.annotations.Nullable;
+import team.reborn.energy.api.EnergyStorage;
+
+import java.util.Arrays;
+
+/**
+ * The energy storages next to an {@link EnergySpreader}, looked up through a {@link BlockApiCache} per side.
+ * <p>
+ * The caches are invalidated by Fabric whenever the block or block entity next to them changes, so finding the
+ * storages every tick does not go through the full {@link EnergyStorage#SIDED} lookup.
+ */
+public class EnergyNeighbourCache {
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    @SuppressWarnings("unchecked")
+    private final BlockApiCache<EnergyStorage, Direction>[] caches = new BlockApiCache[DIRECTIONS.length];
+    private final EnergyStorage[] receivers = new EnergyStorage[DIRECTIONS.length];
+
+    private @Nullable ServerWorld world;
+    private @Nullable BlockPos pos;
+    private int nextStart;
+
+    /**
+     * Finds the neighbouring storages that can currently receive energy.
+     *
+     * @param world The world of the spreader.
+     * @param pos   The position of the spreader.
+     * @return The number of storages found, which can be got with {@link #getReceiver(int)}.
+     */
+    public int findReceivers(ServerWorld world, BlockPos pos) {
+        if (this.world != world || !pos.equals(this.pos)) {
+            for (int index = 0; index < DIRECTIONS.length; index++) {
+                this.caches[index] = BlockApiCache.create(EnergyStorage.SIDED, world, pos.offset(DIRECTIONS[index]));
+            }
+
+            this.world = world;
+            this.pos = pos.toImmutable();
+        }
+
+        int count = 0;
+        for (int index = 0; index < DIRECTIONS.length; index++) {
+            EnergyStorage storage = this.caches[index].find(DIRECTIONS[index].getOpposite());
+            if (storage == null || !storage.supportsInsertion() || storage.getAmount() >= storage.getCapacity())
+                continue;
+
+            this.receivers[count++] = storage;
+        }
+
+        // Don't keep the storages of removed block entities around
+        Arrays.fill(this.receivers, count, this.receivers.length, null);
+        return count;
+    }
+
+    public EnergyStorage getReceiver(int index) {
+        return this.receivers[index];
+    }
+
+    /**
+     * @return The receiver to start spreading from, which moves along by one every call.
+     */
+    public int nextStart(int count) {
+        int start = this.nextStart % count;
+        this.nextStart = start + 1;
+        return start;
+    }
+}
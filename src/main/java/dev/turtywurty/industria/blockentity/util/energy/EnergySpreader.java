@@ -3,57 +3,47 @@ package dev.turtywurty.industria.blockentity.util.energy;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
-import team.reborn.energy.api.EnergyStorage;
 import team.reborn.energy.api.base.SimpleEnergyStorage;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public interface EnergySpreader {
-    static long simulateInsertion(EnergyStorage storage, long amount, Transaction outer) {
-        try (Transaction inner = outer.openNested()) {
-            long max = storage.insert(amount, inner);
-            inner.abort();
-            return max;
-        }
-    }
+    EnergyNeighbourCache getEnergyNeighbourCache();
 
     default void spread(World world, BlockPos pos, SimpleEnergyStorage energyStorage) {
-        List<EnergyStorage> storages = new ArrayList<>();
-        for (Direction direction : Direction.values()) {
-            EnergyStorage storage = EnergyStorage.SIDED.find(world, pos.offset(direction), direction.getOpposite());
-            if (storage == null || !storage.supportsInsertion() || storage.getAmount() >= storage.getCapacity())
-                continue;
-
-            storages.add(storage);
-        }
+        if (!(world instanceof ServerWorld serverWorld))
+            return;
 
-        if (storages.isEmpty())
+        EnergyNeighbourCache neighbours = getEnergyNeighbourCache();
+        int count = neighbours.findReceivers(serverWorld, pos);
+        if (count == 0)
             return;
 
         try (Transaction transaction = Transaction.openOuter()) {
             long currentEnergy = energyStorage.getAmount();
-            long totalExtractable = energyStorage.extract(Long.MAX_VALUE, transaction);
-            long totalInserted = 0;
+            long remaining = energyStorage.extract(Long.MAX_VALUE, transaction);
+
+            // Split the energy evenly, with whatever one neighbour doesn't accept going to the ones after it. The
+            // neighbour that goes first moves along every tick, so the remainder of the split is shared out fairly
+            int start = neighbours.nextStart(count);
+            for (int index = 0; index < count && remaining > 0; index++) {
+                long share = remaining / (count - index);
+                if (share == 0)
+                    continue;
 
-            for (EnergyStorage storage : storages) {
-                long insertable = simulateInsertion(storage, totalExtractable, transaction);
-                long inserted = storage.insert(insertable, transaction);
-                totalInserted += inserted;
+                remaining -= neighbours.getReceiver((start + index) % count).insert(share, transaction);
             }
 
-            if (totalInserted < totalExtractable) {
-                energyStorage.amount += totalExtractable - totalInserted;
+            if (remaining > 0) {
+                energyStorage.amount += remaining;
             }
 
             transaction.commit();
 
             if (currentEnergy != energyStorage.getAmount()) {
                 if (this instanceof UpdatableBlockEntity updatableBlockEntity) {
-                    updatableBlockEntity.update();
+                    updatableBlockEntity.updateThrottled();
                 } else if (this instanceof BlockEntity blockEntity) {
                     blockEntity.markDirty();
                 }
@@ -2,12 +2,17 @@ package dev.turtywurty.industria.blockentity.util.energy;
 
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.MachineSleep;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import team.reborn.energy.api.base.SimpleEnergyStorage;
 
 public class SyncingEnergyStorage extends SimpleEnergyStorage implements SyncableStorage {
     private final UpdatableBlockEntity blockEntity;
     private boolean isDirty = false;
 
+    private long generation;
+    private long generationAmount;
+
     public SyncingEnergyStorage(UpdatableBlockEntity blockEntity, long capacity, long maxInput, long maxOutput) {
         super(capacity, maxInput, maxOutput);
         this.blockEntity = blockEntity;
@@ -17,6 +22,10 @@ public class SyncingEnergyStorage extends SimpleEnergyStorage implements Syncabl
     protected void onFinalCommit() {
         super.onFinalCommit();
         this.isDirty = true;
+
+        if (this.blockEntity != null) {
+            MachineSleep.wake(this.blockEntity, WakeCondition.ENERGY_CHANGE);
+        }
     }
 
     @Override
@@ -24,8 +33,18 @@ public class SyncingEnergyStorage extends SimpleEnergyStorage implements Syncabl
         if (this.isDirty && this.blockEntity != null && this.blockEntity.hasWorld() && !this.blockEntity.getWorld().isClient) {
             this.isDirty = false;
 
-            this.blockEntity.update();
+            this.blockEntity.updateThrottled();
+        }
+    }
+
+    @Override
+    public long getGeneration() {
+        if (this.amount != this.generationAmount) {
+            this.generationAmount = this.amount;
+            this.generation++;
         }
+
+        return this.generation;
     }
 
     public UpdatableBlockEntity getBlockEntity() {
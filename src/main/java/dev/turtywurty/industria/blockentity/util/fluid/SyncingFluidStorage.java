@@ -2,6 +2,8 @@ package dev.turtywurty.industria.blockentity.util.fluid;
 
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.MachineSleep;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
 import net.fabricmc.fabric.api.transfer.v1.fluid.base.SingleFluidStorage;
 import net.minecraft.block.entity.BlockEntity;
@@ -13,6 +15,11 @@ public class SyncingFluidStorage extends SingleFluidStorage implements SyncableS
     private final long capacity;
 
     private boolean isDirty = false;
+    private FluidVariant syncedVariant = FluidVariant.blank();
+
+    private long generation;
+    private FluidVariant generationVariant = FluidVariant.blank();
+    private long generationAmount;
 
     public SyncingFluidStorage(@NotNull BlockEntity blockEntity, long capacity) {
         this.capacity = capacity;
@@ -28,6 +35,7 @@ public class SyncingFluidStorage extends SingleFluidStorage implements SyncableS
     protected void onFinalCommit() {
         super.onFinalCommit();
         this.isDirty = true;
+        MachineSleep.wake(this.blockEntity, WakeCondition.FLUID_CHANGE);
     }
 
     @Override
@@ -36,13 +44,30 @@ public class SyncingFluidStorage extends SingleFluidStorage implements SyncableS
             this.isDirty = false;
 
             if (this.blockEntity instanceof UpdatableBlockEntity updatableBlockEntity) {
-                updatableBlockEntity.update();
+                // A different fluid is visible straight away, whereas a different amount can wait
+                if (this.variant.equals(this.syncedVariant)) {
+                    updatableBlockEntity.updateThrottled();
+                } else {
+                    this.syncedVariant = this.variant;
+                    updatableBlockEntity.update();
+                }
             } else {
                 this.blockEntity.markDirty();
             }
         }
     }
 
+    @Override
+    public long getGeneration() {
+        if (this.amount != this.generationAmount || !this.variant.equals(this.generationVariant)) {
+            this.generationAmount = this.amount;
+            this.generationVariant = this.variant;
+            this.generation++;
+        }
+
+        return this.generation;
+    }
+
     @Override
     public boolean canInsert(FluidVariant variant) {
         return super.canInsert(variant);
@@ -12,6 +12,11 @@ public class SyncingGasStorage extends SingleGasStorage implements SyncableStora
     private final long capacity;
 
     private boolean isDirty = false;
+    private GasVariant syncedVariant = GasVariant.blank();
+
+    private long generation;
+    private GasVariant generationVariant = GasVariant.blank();
+    private long generationAmount;
 
     public SyncingGasStorage(@NotNull BlockEntity blockEntity, long capacity) {
         this.capacity = capacity;
@@ -35,13 +40,30 @@ public class SyncingGasStorage extends SingleGasStorage implements SyncableStora
             this.isDirty = false;
 
             if (this.blockEntity instanceof UpdatableBlockEntity updatableBlockEntity) {
-                updatableBlockEntity.update();
+                // A different gas is visible straight away, whereas a different amount can wait
+                if (this.variant.equals(this.syncedVariant)) {
+                    updatableBlockEntity.updateThrottled();
+                } else {
+                    this.syncedVariant = this.variant;
+                    updatableBlockEntity.update();
+                }
             } else {
                 this.blockEntity.markDirty();
             }
         }
     }
 
+    @Override
+    public long getGeneration() {
+        if (this.amount != this.generationAmount || !this.variant.equals(this.generationVariant)) {
+            this.generationAmount = this.amount;
+            this.generationVariant = this.variant;
+            this.generation++;
+        }
+
+        return this.generation;
+    }
+
     @Override
     public boolean canInsert(GasVariant variant) {
         return super.canInsert(variant);
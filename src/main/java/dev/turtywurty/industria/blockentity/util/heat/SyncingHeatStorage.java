@@ -12,6 +12,9 @@ public class SyncingHeatStorage extends SimpleHeatStorage implements SyncableSto
     private final BlockEntity blockEntity;
     private boolean isDirty = false;
 
+    private long generation;
+    private long generationAmount;
+
     public SyncingHeatStorage(@NotNull BlockEntity blockEntity, long capacity, long maxInsert, long maxExtract) {
         super(capacity, maxInsert, maxExtract);
         Objects.requireNonNull(blockEntity, "BlockEntity cannot be null!");
@@ -31,10 +34,21 @@ public class SyncingHeatStorage extends SimpleHeatStorage implements SyncableSto
             this.isDirty = false;
 
             if (this.blockEntity instanceof UpdatableBlockEntity updatableBlockEntity) {
-                updatableBlockEntity.update();
+                updatableBlockEntity.updateThrottled();
             } else {
                 this.blockEntity.markDirty();
             }
         }
     }
+
+    @Override
+    public long getGeneration() {
+        long amount = getAmount();
+        if (amount != this.generationAmount) {
+            this.generationAmount = amount;
+            this.generation++;
+        }
+
+        return this.generation;
+    }
 }
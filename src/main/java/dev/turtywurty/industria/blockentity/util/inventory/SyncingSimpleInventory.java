@@ -2,20 +2,34 @@ package dev.turtywurty.industria.blockentity.util.inventory;
 
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.MachineSleep;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import net.minecraft.item.ItemStack;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class SyncingSimpleInventory extends RecipeSimpleInventory implements SyncableStorage {
     private final UpdatableBlockEntity blockEntity;
     private boolean isDirty = false;
+    private boolean isBatching = false;
+    private boolean hasBatchedChanges = false;
+
+    private long generation;
+    private final ItemStack[] generationStacks;
 
     public SyncingSimpleInventory(UpdatableBlockEntity blockEntity, int size) {
         super(size);
         this.blockEntity = blockEntity;
+        this.generationStacks = new ItemStack[size];
+        Arrays.fill(this.generationStacks, ItemStack.EMPTY);
     }
 
     public SyncingSimpleInventory(UpdatableBlockEntity blockEntity, ItemStack... stacks) {
         super(stacks);
         this.blockEntity = blockEntity;
+        this.generationStacks = new ItemStack[stacks.length];
+        Arrays.fill(this.generationStacks, ItemStack.EMPTY);
     }
 
     @Override
@@ -27,10 +41,65 @@ public class SyncingSimpleInventory extends RecipeSimpleInventory implements Syn
         }
     }
 
+    /**
+     * Adds every stack like {@link #addStack(ItemStack)}, but only marks this inventory dirty once, after all of them
+     * have been added.
+     *
+     * @param stacks The stacks to add. Each one is replaced with what is left of it that didn't fit.
+     */
+    public void addStacks(List<ItemStack> stacks) {
+        this.isBatching = true;
+        try {
+            for (int index = 0; index < stacks.size(); index++) {
+                ItemStack stack = stacks.get(index);
+                if (!stack.isEmpty()) {
+                    stacks.set(index, addStack(stack));
+                }
+            }
+        } finally {
+            this.isBatching = false;
+        }
+
+        if (this.hasBatchedChanges) {
+            this.hasBatchedChanges = false;
+            markDirty();
+        }
+    }
+
     @Override
     public void markDirty() {
+        if (this.isBatching) {
+            this.hasBatchedChanges = true;
+            return;
+        }
+
         super.markDirty();
         this.isDirty = true;
+        this.generation++;
+
+        if (this.blockEntity != null) {
+            MachineSleep.wake(this.blockEntity, WakeCondition.INVENTORY_CHANGE);
+        }
+    }
+
+    @Override
+    public long getGeneration() {
+        // Stacks are often changed in place without marking the inventory dirty, so compare them (components
+        // included, as recipes can match on those) with a copy of what they were last time
+        boolean changed = false;
+        for (int slot = 0; slot < this.generationStacks.length; slot++) {
+            ItemStack stack = getStack(slot);
+            if (!ItemStack.areEqual(stack, this.generationStacks[slot])) {
+                this.generationStacks[slot] = stack.copy();
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            this.generation++;
+        }
+
+        return this.generation;
     }
 
     public UpdatableBlockEntity getBlockEntity() {
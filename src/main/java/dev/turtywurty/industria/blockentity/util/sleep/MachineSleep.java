@@ -0,0 +1,129 @@
+package dev.turtywurty.industria.blockentity.util.sleep;
+
+import dev.turtywurty.industria.mixin.WorldChunkInvoker;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.Set;
+
+/**
+ * Keeps track of the {@link SleepableBlockEntity}s that are asleep.
+ * <p>
+ * A block entity that falls asleep has its ticker removed from its chunk (and so from the world's list of block
+ * entities to tick), so it costs nothing while asleep. When one of its wake conditions happens, the ticker is added
+ * back and it ticks again from the next tick on. If the world starts ticking it again for any other reason (such as
+ * its block state changing), it is counted as awake again.
+ */
+public class MachineSleep {
+    private static final Reference2ObjectMap<ServerWorld, Long2ObjectMap<Sleeper>> SLEEPING = new Reference2ObjectOpenHashMap<>();
+
+    public static void sleep(ServerWorld world, SleepableBlockEntity sleepable) {
+        if (!(sleepable instanceof BlockEntity blockEntity) || blockEntity.isRemoved())
+            return;
+
+        Long2ObjectMap<Sleeper> sleeping = SLEEPING.get(world);
+        if (sleeping == null) {
+            sleeping = new Long2ObjectOpenHashMap<>();
+            SLEEPING.put(world, sleeping);
+        }
+
+        BlockPos pos = blockEntity.getPos();
+        sleeping.put(pos.asLong(), new Sleeper(blockEntity, sleepable.getWakeConditions(), world.isReceivingRedstonePower(pos)));
+        ((WorldChunkInvoker) world.getWorldChunk(pos)).invokeRemoveBlockEntityTicker(pos);
+    }
+
+    /**
+     * Wakes the block entity up if it is asleep and has asked to be woken by the condition.
+     */
+    public static void wake(BlockEntity blockEntity, WakeCondition condition) {
+        if (!(blockEntity.getWorld() instanceof ServerWorld world))
+            return;
+
+        Long2ObjectMap<Sleeper> sleeping = SLEEPING.get(world);
+        if (sleeping == null || sleeping.isEmpty())
+            return;
+
+        long pos = blockEntity.getPos().asLong();
+        Sleeper sleeper = sleeping.get(pos);
+        if (sleeper == null || sleeper.blockEntity() != blockEntity || !sleeper.wakeConditions().contains(condition))
+            return;
+
+        sleeping.remove(pos);
+        ((WorldChunkInvoker) world.getWorldChunk(blockEntity.getPos())).invokeUpdateTicker(blockEntity);
+    }
+
+    /**
+     * Wakes the block entity at the position up if it is asleep and has asked to be woken by neighbour updates, or by
+     * redstone and whether it is powered has changed.
+     */
+    public static void onNeighbourUpdate(ServerWorld world, BlockPos pos) {
+        Long2ObjectMap<Sleeper> sleeping = SLEEPING.get(world);
+        if (sleeping == null || sleeping.isEmpty())
+            return;
+
+        Sleeper sleeper = sleeping.get(pos.asLong());
+        if (sleeper == null)
+            return;
+
+        if (sleeper.wakeConditions().contains(WakeCondition.NEIGHBOUR_UPDATE)) {
+            wake(sleeper.blockEntity(), WakeCondition.NEIGHBOUR_UPDATE);
+        } else if (sleeper.wakeConditions().contains(WakeCondition.REDSTONE) && world.isReceivingRedstonePower(pos) != sleeper.powered()) {
+            wake(sleeper.blockEntity(), WakeCondition.REDSTONE);
+        }
+    }
+
+    /**
+     * Forgets the block entity if it is counted as asleep, for when it is ticking or has been unloaded.
+     */
+    public static void forget(BlockEntity blockEntity) {
+        if (!(blockEntity.getWorld() instanceof ServerWorld world))
+            return;
+
+        Long2ObjectMap<Sleeper> sleeping = SLEEPING.get(world);
+        if (sleeping == null || sleeping.isEmpty())
+            return;
+
+        long pos = blockEntity.getPos().asLong();
+        Sleeper sleeper = sleeping.get(pos);
+        if (sleeper != null && sleeper.blockEntity() == blockEntity) {
+            sleeping.remove(pos);
+        }
+    }
+
+    public static int getSleepingCount(ServerWorld world) {
+        Long2ObjectMap<Sleeper> sleeping = SLEEPING.get(world);
+        return sleeping == null ? 0 : sleeping.size();
+    }
+
+    public static Reference2IntMap<BlockEntityType<?>> getSleepingCountByType(ServerWorld world) {
+        Reference2IntMap<BlockEntityType<?>> counts = new Reference2IntOpenHashMap<>();
+        Long2ObjectMap<Sleeper> sleeping = SLEEPING.get(world);
+        if (sleeping == null)
+            return counts;
+
+        for (Sleeper sleeper : sleeping.values()) {
+            counts.mergeInt(sleeper.blockEntity().getType(), 1, Integer::sum);
+        }
+
+        return counts;
+    }
+
+    public static void clear(ServerWorld world) {
+        SLEEPING.remove(world);
+    }
+
+    public static void clear() {
+        SLEEPING.clear();
+    }
+
+    private record Sleeper(BlockEntity blockEntity, Set<WakeCondition> wakeConditions, boolean powered) {
+    }
+}
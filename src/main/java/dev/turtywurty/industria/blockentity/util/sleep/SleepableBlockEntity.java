@@ -0,0 +1,20 @@
+package dev.turtywurty.industria.blockentity.util.sleep;
+
+import dev.turtywurty.industria.blockentity.util.SyncableTickableBlockEntity;
+
+import java.util.Set;
+
+/**
+ * A {@link SyncableTickableBlockEntity} that stops ticking while it has nothing to do, until one of its
+ * {@link #getWakeConditions() wake conditions} happens. See {@link MachineSleep}.
+ */
+public interface SleepableBlockEntity extends SyncableTickableBlockEntity {
+    /**
+     * Called at the end of every tick, after the block entity has been synced.
+     *
+     * @return Whether ticking would do nothing until one of the wake conditions happens.
+     */
+    boolean canSleep();
+
+    Set<WakeCondition> getWakeConditions();
+}
@@ -0,0 +1,31 @@
+package dev.turtywurty.industria.blockentity.util.sleep;
+
+/**
+ * Something that wakes a sleeping {@link SleepableBlockEntity} up, if it has asked to be woken by it.
+ */
+public enum WakeCondition {
+    /**
+     * The contents of one of its inventories changed.
+     */
+    INVENTORY_CHANGE,
+    /**
+     * The contents of one of its fluid storages changed.
+     */
+    FLUID_CHANGE,
+    /**
+     * The contents of one of its slurry storages changed.
+     */
+    SLURRY_CHANGE,
+    /**
+     * The amount of energy it has stored changed.
+     */
+    ENERGY_CHANGE,
+    /**
+     * A block next to it changed.
+     */
+    NEIGHBOUR_UPDATE,
+    /**
+     * Whether it is receiving redstone power changed.
+     */
+    REDSTONE
+}
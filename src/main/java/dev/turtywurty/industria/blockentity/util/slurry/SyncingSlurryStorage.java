@@ -4,6 +4,8 @@ import dev.turtywurty.fabricslurryapi.api.SlurryVariant;
 import dev.turtywurty.fabricslurryapi.api.storage.SingleSlurryStorage;
 import dev.turtywurty.industria.blockentity.util.SyncableStorage;
 import dev.turtywurty.industria.blockentity.util.UpdatableBlockEntity;
+import dev.turtywurty.industria.blockentity.util.sleep.MachineSleep;
+import dev.turtywurty.industria.blockentity.util.sleep.WakeCondition;
 import net.minecraft.block.entity.BlockEntity;
 import org.jetbrains.annotations.NotNull;
 
@@ -12,6 +14,11 @@ public class SyncingSlurryStorage extends SingleSlurryStorage implements Syncabl
     private final long capacity;
 
     private boolean isDirty = false;
+    private SlurryVariant syncedVariant = SlurryVariant.blank();
+
+    private long generation;
+    private SlurryVariant generationVariant = SlurryVariant.blank();
+    private long generationAmount;
 
     public SyncingSlurryStorage(@NotNull BlockEntity blockEntity, long capacity) {
         this.capacity = capacity;
@@ -27,6 +34,7 @@ public class SyncingSlurryStorage extends SingleSlurryStorage implements Syncabl
     protected void onFinalCommit() {
         super.onFinalCommit();
         this.isDirty = true;
+        MachineSleep.wake(this.blockEntity, WakeCondition.SLURRY_CHANGE);
     }
 
     @Override
@@ -35,13 +43,30 @@ public class SyncingSlurryStorage extends SingleSlurryStorage implements Syncabl
             this.isDirty = false;
 
             if (this.blockEntity instanceof UpdatableBlockEntity updatableBlockEntity) {
-                updatableBlockEntity.update();
+                // A different slurry is visible straight away, whereas a different amount can wait
+                if (this.variant.equals(this.syncedVariant)) {
+                    updatableBlockEntity.updateThrottled();
+                } else {
+                    this.syncedVariant = this.variant;
+                    updatableBlockEntity.update();
+                }
             } else {
                 this.blockEntity.markDirty();
             }
         }
     }
 
+    @Override
+    public long getGeneration() {
+        if (this.amount != this.generationAmount || !this.variant.equals(this.generationVariant)) {
+            this.generationAmount = this.amount;
+            this.generationVariant = this.variant;
+            this.generation++;
+        }
+
+        return this.generation;
+    }
+
     @Override
     public boolean canInsert(SlurryVariant variant) {
         return super.canInsert(variant);
@@ -0,0 +1,25 @@
+package dev.turtywurty.industria.command;
+
+import com.mojang.brigadier.context.CommandContext;
+import dev.turtywurty.industria.blockentity.util.sleep.MachineSleep;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import net.minecraft.block.entity.BlockEntityType;
+import net.minecraft.registry.Registries;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.text.Text;
+
+public class SleepingMachinesCommand {
+    public static int execute(CommandContext<ServerCommandSource> context) {
+        ServerCommandSource source = context.getSource();
+        ServerWorld serverWorld = source.getWorld();
+
+        int count = MachineSleep.getSleepingCount(serverWorld);
+        source.sendFeedback(() -> Text.literal(count + " machines are asleep in " + serverWorld.getRegistryKey().getValue()), false);
+        for (Reference2IntMap.Entry<BlockEntityType<?>> entry : MachineSleep.getSleepingCountByType(serverWorld).reference2IntEntrySet()) {
+            source.sendFeedback(() -> Text.literal("  " + Registries.BLOCK_ENTITY_TYPE.getId(entry.getKey()) + ": " + entry.getIntValue()), false);
+        }
+
+        return count;
+    }
+}
@@ -14,8 +14,16 @@ public class ServerConfig {
     private static final WorldSavePath CONFIG_PATH = new WorldSavePath("config/" + Industria.MOD_ID + ".json");
     private static final WorldSavePath BACKUP_PATH = new WorldSavePath("config/" + Industria.MOD_ID + ".json.bak");
 
+    public static final int DEFAULT_SYNC_INTERVAL = 10;
+    public static final int DEFAULT_LIT_DEBOUNCE_TICKS = 10;
+    public static final int DEFAULT_DELTA_SYNC_BYTES_PER_TICK = 32_768;
+
     private static ServerConfig currentConfig;
 
+    private int syncInterval = DEFAULT_SYNC_INTERVAL;
+    private int litDebounceTicks = DEFAULT_LIT_DEBOUNCE_TICKS;
+    private int deltaSyncBytesPerTick = DEFAULT_DELTA_SYNC_BYTES_PER_TICK;
+
     public static void onServerLoad(MinecraftServer server) {
         currentConfig = readConfig(server);
     }
@@ -32,6 +40,29 @@ public class ServerConfig {
         return currentConfig;
     }
 
+    /**
+     * @return The minimum number of ticks between two syncs of a block entity whose changes are not visible in the
+     * world (such as the amount of energy it has stored).
+     */
+    public int getSyncInterval() {
+        return this.syncInterval;
+    }
+
+    /**
+     * @return The number of ticks a machine has to have stopped for before its block stops being lit.
+     */
+    public int getLitDebounceTicks() {
+        return this.litDebounceTicks;
+    }
+
+    /**
+     * @return Roughly how many bytes of block entity changes each player is sent per tick. Anything over that waits
+     * for the next tick.
+     */
+    public int getDeltaSyncBytesPerTick() {
+        return this.deltaSyncBytesPerTick;
+    }
+
     private static ServerConfig readConfig(MinecraftServer server) {
         Path configPath = server.getSavePath(CONFIG_PATH);
         try {
@@ -83,10 +114,24 @@ public class ServerConfig {
     }
 
     private JsonObject serialize() {
-        return new JsonObject();
+        var json = new JsonObject();
+        json.addProperty("syncInterval", this.syncInterval);
+        json.addProperty("litDebounceTicks", this.litDebounceTicks);
+        json.addProperty("deltaSyncBytesPerTick", this.deltaSyncBytesPerTick);
+        return json;
     }
 
     private void deserialize(JsonObject json) {
+        if (json.has("syncInterval")) {
+            this.syncInterval = Math.max(1, json.get("syncInterval").getAsInt());
+        }
 
+        if (json.has("litDebounceTicks")) {
+            this.litDebounceTicks = Math.max(1, json.get("litDebounceTicks").getAsInt());
+        }
+
+        if (json.has("deltaSyncBytesPerTick")) {
+            this.deltaSyncBytesPerTick = Math.max(1, json.get("deltaSyncBytesPerTick").getAsInt());
+        }
     }
 }
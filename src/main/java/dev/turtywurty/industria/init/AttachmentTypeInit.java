@@ -2,8 +2,9 @@ package dev.turtywurty.industria.init;
 
 import com.mojang.serialization.Codec;
 import dev.turtywurty.industria.Industria;
-import dev.turtywurty.industria.multiblock.MultiblockData;
-import dev.turtywurty.industria.util.ExtraCodecs;
+import dev.turtywurty.industria.multiblock.ChunkMultiblocks;
+import dev.turtywurty.industria.persistent.ChunkFluidPockets;
+import dev.turtywurty.industria.persistent.WorldFluidPocketsState;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentSyncPredicate;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
@@ -12,18 +13,16 @@ import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.RegistryKeys;
 import net.minecraft.registry.entry.RegistryEntry;
-import net.minecraft.util.math.BlockPos;
 
 import java.util.HashMap;
 import java.util.Map;
 
 @SuppressWarnings("UnstableApiUsage")
 public class AttachmentTypeInit {
-    public static final AttachmentType<Map<BlockPos, MultiblockData>> MULTIBLOCK_ATTACHMENT =
+    public static final AttachmentType<ChunkMultiblocks> MULTIBLOCK_ATTACHMENT =
             AttachmentRegistry.create(Industria.id("multiblock"),
-                    mapBuilder -> mapBuilder.persistent(Codec.unboundedMap(ExtraCodecs.BLOCK_POS_STRING_CODEC, MultiblockData.CODEC))
-                            .syncWith(PacketCodecs.map(HashMap::new, BlockPos.PACKET_CODEC, MultiblockData.PACKET_CODEC),
-                                    AttachmentSyncPredicate.all()));
+                    builder -> builder.persistent(ChunkMultiblocks.CODEC)
+                            .syncWith(ChunkMultiblocks.PACKET_CODEC, AttachmentSyncPredicate.all()));
 
     public static final AttachmentType<Map<String, RegistryEntry<Fluid>>> FLUID_MAP_ATTACHMENT =
             AttachmentRegistry.create(Industria.id("fluid_map"),
@@ -33,5 +32,12 @@ public class AttachmentTypeInit {
                                             PacketCodecs.registryEntry(RegistryKeys.FLUID)),
                                     AttachmentSyncPredicate.all()));
 
+    public static final AttachmentType<ChunkFluidPockets> FLUID_POCKETS_ATTACHMENT =
+            AttachmentRegistry.create(Industria.id("fluid_pockets"),
+                    builder -> builder.persistent(ChunkFluidPockets.CODEC));
+
+    public static final AttachmentType<WorldFluidPocketsState> FLUID_POCKETS_INDEX_ATTACHMENT =
+            AttachmentRegistry.create(Industria.id("fluid_pockets_index"));
+
     public static void init() {}
 }
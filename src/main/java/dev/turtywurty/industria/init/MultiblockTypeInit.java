@@ -3,26 +3,44 @@ package dev.turtywurty.industria.init;
 import dev.turtywurty.industria.Industria;
 import dev.turtywurty.industria.block.*;
 import dev.turtywurty.industria.blockentity.*;
+import dev.turtywurty.industria.multiblock.MultiblockTemplate;
 import dev.turtywurty.industria.multiblock.MultiblockType;
+import dev.turtywurty.industria.multiblock.TransferType;
 import net.minecraft.block.entity.BlockEntity;
 import net.minecraft.registry.Registry;
 
+import java.util.List;
+
 public class MultiblockTypeInit {
     public static final MultiblockType<OilPumpJackBlockEntity> OIL_PUMP_JACK = register("oil_pump_jack",
             new MultiblockType.Builder<OilPumpJackBlockEntity>(123)
-                    .setHasDirectionProperty(true));
+                    .setHasDirectionProperty(true)
+                    .template(OilPumpJackBlockEntity.createTemplate()));
 
     public static final MultiblockType<DrillBlockEntity> DRILL = register("drill",
             new MultiblockType.Builder<DrillBlockEntity>(26) // 3x3x3
-                    .setHasDirectionProperty(true));
+                    .setHasDirectionProperty(true)
+                    .template(new MultiblockTemplate.Builder()
+                            .box(-1, 0, -1, 1, 2, 1)
+                            .validator(MultiblockTemplate.PositionValidator.ANY)
+                            .ports(DrillBlockEntity::getPortTypes)));
 
     public static final MultiblockType<UpgradeStationBlockEntity> UPGRADE_STATION = register("upgrade_station",
             new MultiblockType.Builder<UpgradeStationBlockEntity>(12)
-                    .setHasDirectionProperty(true));
+                    .setHasDirectionProperty(true)
+                    .template(new MultiblockTemplate.Builder()
+                            .offset(0, 1, 0)
+                            .box(-1, 0, -1, 1, 0, 2)
+                            .rotates(false)
+                            .validator(MultiblockTemplate.PositionValidator.ANY)
+                            .ports((offsetFromPrimary, side, facing) -> List.of(TransferType.ENERGY))));
 
     public static final MultiblockType<MixerBlockEntity> MIXER = register("mixer",
             new MultiblockType.Builder<MixerBlockEntity>(26) // 3x3x3
                     .setHasDirectionProperty(true)
+                    .template(new MultiblockTemplate.Builder()
+                            .box(-1, 0, -1, 1, 2, 1)
+                            .ports(MixerBlockEntity::getPortTypes))
                     .shapes(MixerBlock.VOXEL_SHAPE)
                     .setOnMultiblockBreak((world, pos) -> {
                         if (world.getBlockEntity(pos) instanceof MixerBlockEntity blockEntity) {
@@ -35,6 +53,9 @@ public class MultiblockTypeInit {
     public static final MultiblockType<DigesterBlockEntity> DIGESTER = register("digester",
             new MultiblockType.Builder<DigesterBlockEntity>(44) // 3x3x4
                     .setHasDirectionProperty(true)
+                    .template(new MultiblockTemplate.Builder()
+                            .box(-1, 0, -1, 1, 4, 1)
+                            .ports(DigesterBlockEntity::getPortTypes))
                     .shapes(DigesterBlock.VOXEL_SHAPE)
                     .setOnMultiblockBreak((world, pos) -> {
                         if (world.getBlockEntity(pos) instanceof DigesterBlockEntity blockEntity) {
@@ -47,6 +68,9 @@ public class MultiblockTypeInit {
     public static final MultiblockType<ClarifierBlockEntity> CLARIFIER = register("clarifier",
             new MultiblockType.Builder<ClarifierBlockEntity>(17) // 3x3x2
                     .setHasDirectionProperty(true)
+                    .template(new MultiblockTemplate.Builder()
+                            .box(-1, 0, -1, 1, 1, 1)
+                            .ports(ClarifierBlockEntity::getPortTypes))
                     .shapes(ClarifierBlock.VOXEL_SHAPE)
                     .setOnMultiblockBreak((world, pos) -> {
                         if (world.getBlockEntity(pos) instanceof ClarifierBlockEntity blockEntity) {
@@ -59,6 +83,9 @@ public class MultiblockTypeInit {
     public static final MultiblockType<CrystallizerBlockEntity> CRYSTALLIZER = register("crystallizer",
             new MultiblockType.Builder<CrystallizerBlockEntity>(35) // 3x3x4
                     .setHasDirectionProperty(true)
+                    .template(new MultiblockTemplate.Builder()
+                            .box(-1, 0, -1, 1, 3, 1)
+                            .ports(CrystallizerBlockEntity::getPortTypes))
                     .shapes(CrystallizerBlock.VOXEL_SHAPE)
                     .setOnMultiblockBreak((world, pos) -> {
                         if (world.getBlockEntity(pos) instanceof CrystallizerBlockEntity blockEntity) {
@@ -71,6 +98,9 @@ public class MultiblockTypeInit {
     public static final MultiblockType<RotaryKilnControllerBlockEntity> ROTARY_KILN_CONTROLLER = register("rotary_kiln_controller",
             new MultiblockType.Builder<RotaryKilnControllerBlockEntity>(24) // 5x5x1
                     .setHasDirectionProperty(true)
+                    .template(new MultiblockTemplate.Builder()
+                            .box(-2, 0, 0, 2, 4, 0)
+                            .ports(RotaryKilnControllerBlockEntity::getPortTypes))
                     .shapeFactory(RotaryKilnControllerBlock::getVoxelShape)
                     .setOnMultiblockBreak((world, pos) -> {
                         if (world.getBlockEntity(pos) instanceof RotaryKilnControllerBlockEntity blockEntity) {
@@ -83,6 +113,8 @@ public class MultiblockTypeInit {
     public static final MultiblockType<RotaryKilnBlockEntity> ROTARY_KILN = register("rotary_kiln",
             new MultiblockType.Builder<RotaryKilnBlockEntity>(24) // 5x5x1
                     .setHasDirectionProperty(true)
+                    .template(new MultiblockTemplate.Builder()
+                            .box(-2, 0, 0, 2, 4, 0))
                     .shapeFactory(RotaryKilnBlock::getVoxelShape)
                     .setOnMultiblockBreak((world, pos) -> {
                         if (world.getBlockEntity(pos) instanceof RotaryKilnBlockEntity blockEntity) {
@@ -93,6 +125,10 @@ public class MultiblockTypeInit {
     public static final MultiblockType<ElectrolyzerBlockEntity> ELECTROLYZER = register("electrolyzer",
             new MultiblockType.Builder<ElectrolyzerBlockEntity>(11) // 3x2x2
                     .setHasDirectionProperty(true)
+                    .template(new MultiblockTemplate.Builder()
+                            .box(-1, 0, -1, 1, 1, 0)
+                            .rotates(false)
+                            .ports(ElectrolyzerBlockEntity::getPortTypes))
                     .shapes(ElectrolyzerBlock.VOXEL_SHAPE)
                     .setOnMultiblockBreak((world, pos) -> {
                         if (world.getBlockEntity(pos) instanceof ElectrolyzerBlockEntity blockEntity) {
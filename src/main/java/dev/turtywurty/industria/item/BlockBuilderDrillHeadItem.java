@@ -34,7 +34,7 @@ public class BlockBuilderDrillHeadItem extends Item implements DrillHeadable {
             drillYOffset -= 0.1F;
         }
 
-        if (WorldFluidPocketsState.getServerState((ServerWorld) world).isPositionInPocket(pos)) {
+        if (WorldFluidPocketsState.getServerState((ServerWorld) world).isPositionInPocket(down)) {
             blockEntity.setDrilling(false);
             blockEntity.setRetracting(true);
             return drillYOffset - 0.1F;
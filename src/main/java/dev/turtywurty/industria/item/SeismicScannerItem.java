@@ -20,16 +20,23 @@ import net.minecraft.text.MutableText;
 import net.minecraft.text.Text;
 import net.minecraft.util.ActionResult;
 import net.minecraft.util.Hand;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 public class SeismicScannerItem extends Item {
     public static final Text TITLE = Text.translatable("screen." + Industria.MOD_ID + ".seismic_scanner");
 
+    // The last column scanned for each player holding a scanner. Players are replaced on respawn, so weak keys are
+    // enough to not keep them around
+    private final Map<PlayerEntity, ColumnScan> lastScans = new WeakHashMap<>();
+
     public SeismicScannerItem(Settings settings) {
         super(settings);
     }
@@ -62,9 +69,22 @@ public class SeismicScannerItem extends Item {
                 (holder.getEquippedStack(EquipmentSlot.MAINHAND) == stack ||
                         holder.getEquippedStack(EquipmentSlot.OFFHAND) == stack);
         if (selected && entity instanceof PlayerEntity player) {
+            // Only scan again (and tell the player again) once they have moved to another column, or the pockets
+            // have changed
             WorldFluidPocketsState state = WorldFluidPocketsState.getServerState(world);
+            BlockPos pos = player.getBlockPos();
+            long column = BlockPos.asLong(pos.getX(), 0, pos.getZ());
+            ColumnScan lastScan = this.lastScans.get(player);
+            if (lastScan != null && lastScan.isFor(world, column, state.getVersion()))
+                return;
+
+            List<WorldFluidPocketsState.FluidPocket> pockets = state.existsBelow(pos);
+            this.lastScans.put(player, new ColumnScan(world, column, state.getVersion(), pockets));
+            if (lastScan != null && lastScan.world() == world && lastScan.column() == column && lastScan.pockets().equals(pockets))
+                return;
+
             List<Text> fluidBelow = new ArrayList<>();
-            for (WorldFluidPocketsState.FluidPocket fluidPocket : state.existsBelow(player.getBlockPos())) {
+            for (WorldFluidPocketsState.FluidPocket fluidPocket : pockets) {
                 Optional<RegistryKey<Fluid>> regKey = fluidPocket.fluidState().getRegistryEntry().getKey();
                 regKey.ifPresent(key -> fluidBelow.add(Text.translatable(key.getValue().toTranslationKey())));
             }
@@ -83,4 +103,10 @@ public class SeismicScannerItem extends Item {
             player.sendMessage(text, false);
         }
     }
+
+    private record ColumnScan(ServerWorld world, long column, int version, List<WorldFluidPocketsState.FluidPocket> pockets) {
+        public boolean isFor(ServerWorld world, long column, int version) {
+            return this.world == world && this.column == column && this.version == version;
+        }
+    }
 }
@@ -0,0 +1,21 @@
+package dev.turtywurty.industria.mixin;
+
+import dev.turtywurty.industria.blockentity.util.BlockEntityDeltaSync;
+import dev.turtywurty.industria.persistent.WorldFluidPocketsState;
+import net.minecraft.server.network.ChunkDataSender;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ChunkDataSender.class)
+public class ChunkDataSenderMixin {
+    @Inject(method = "sendChunkData", at = @At("TAIL"))
+    private static void industria$sendChunkData(ServerPlayNetworkHandler handler, ServerWorld world, WorldChunk chunk, CallbackInfo ci) {
+        WorldFluidPocketsState.sendChunkPockets(world, handler.player, chunk);
+        BlockEntityDeltaSync.onChunkSent(world, handler.player, chunk);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.turtywurty.industria.mixin;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.chunk.WorldChunk;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Invoker;
+
+@Mixin(WorldChunk.class)
+public interface WorldChunkInvoker {
+    @Invoker("removeBlockEntityTicker")
+    void invokeRemoveBlockEntityTicker(BlockPos pos);
+
+    @Invoker("updateTicker")
+    <T extends BlockEntity> void invokeUpdateTicker(T blockEntity);
+}
@@ -0,0 +1,14 @@
+package dev.turtywurty.industria.mixin.loot;
+
+import net.minecraft.loot.entry.CombinedEntry;
+import net.minecraft.loot.entry.LootPoolEntry;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.List;
+
+@Mixin(CombinedEntry.class)
+public interface CombinedEntryAccessor {
+    @Accessor("children")
+    List<LootPoolEntry> getChildren();
+}
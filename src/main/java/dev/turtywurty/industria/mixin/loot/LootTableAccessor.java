@@ -0,0 +1,18 @@
+package dev.turtywurty.industria.mixin.loot;
+
+import net.minecraft.loot.LootPool;
+import net.minecraft.loot.LootTable;
+import net.minecraft.loot.function.LootFunction;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.List;
+
+@Mixin(LootTable.class)
+public interface LootTableAccessor {
+    @Accessor("pools")
+    List<LootPool> getPools();
+
+    @Accessor("functions")
+    List<LootFunction> getFunctions();
+}
@@ -0,0 +1,170 @@
+package dev.turtywurty.industria.multiblock;
+
+import com.mojang.serialization.Codec;
+import dev.turtywurty.industria.block.MultiblockBlock;
+import dev.turtywurty.industria.init.AttachmentTypeInit;
+import dev.turtywurty.industria.network.UpdateChunkMultiblocksPayload;
+import dev.turtywurty.industria.util.ExtraCodecs;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.WorldChunk;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * The multiblock data of every multiblock block within a single chunk, keyed by packed {@link BlockPos}.
+ * <p>
+ * This is stored on the chunk as {@link AttachmentTypeInit#MULTIBLOCK_ATTACHMENT} and is updated in place through a
+ * {@link Batch}, rather than copied and re-attached for every block.
+ */
+@SuppressWarnings("UnstableApiUsage")
+public class ChunkMultiblocks {
+    public static final Codec<ChunkMultiblocks> CODEC =
+            Codec.unboundedMap(ExtraCodecs.BLOCK_POS_STRING_CODEC, MultiblockData.CODEC)
+                    .xmap(ChunkMultiblocks::new, ChunkMultiblocks::toMap);
+
+    public static final PacketCodec<RegistryByteBuf, ChunkMultiblocks> PACKET_CODEC =
+            PacketCodecs.map(HashMap<BlockPos, MultiblockData>::new, BlockPos.PACKET_CODEC, MultiblockData.PACKET_CODEC)
+                    .xmap(ChunkMultiblocks::new, multiblocks -> new HashMap<>(multiblocks.toMap()));
+
+    private final Long2ObjectOpenHashMap<MultiblockData> data = new Long2ObjectOpenHashMap<>();
+
+    public ChunkMultiblocks() {}
+
+    public ChunkMultiblocks(Map<BlockPos, MultiblockData> data) {
+        data.forEach(this::put);
+    }
+
+    public @Nullable MultiblockData get(BlockPos pos) {
+        return this.data.get(pos.asLong());
+    }
+
+    public void put(BlockPos pos, MultiblockData data) {
+        this.data.put(pos.asLong(), data);
+    }
+
+    public void remove(BlockPos pos) {
+        this.data.remove(pos.asLong());
+    }
+
+    public boolean isEmpty() {
+        return this.data.isEmpty();
+    }
+
+    /**
+     * Applies a delta received from the server.
+     *
+     * @param added   The positions that were added or changed.
+     * @param removed The positions that were removed.
+     */
+    public void apply(Map<BlockPos, MultiblockData> added, List<BlockPos> removed) {
+        for (BlockPos pos : removed) {
+            remove(pos);
+        }
+
+        added.forEach(this::put);
+    }
+
+    public Map<BlockPos, MultiblockData> toMap() {
+        Map<BlockPos, MultiblockData> map = new HashMap<>(this.data.size());
+        for (Long2ObjectMap.Entry<MultiblockData> entry : this.data.long2ObjectEntrySet()) {
+            map.put(BlockPos.fromLong(entry.getLongKey()), entry.getValue());
+        }
+
+        return map;
+    }
+
+    /**
+     * Collects the changes made while building or breaking a multiblock, so that each affected chunk is only
+     * updated (and synced) once.
+     */
+    public static class Batch {
+        private final Long2ObjectOpenHashMap<ChunkDelta> deltas = new Long2ObjectOpenHashMap<>();
+
+        public void put(BlockPos pos, MultiblockData data) {
+            ChunkDelta delta = getDelta(pos);
+            delta.removed().remove(pos);
+            delta.added().put(pos.toImmutable(), data);
+        }
+
+        public void remove(BlockPos pos) {
+            ChunkDelta delta = getDelta(pos);
+            delta.added().remove(pos);
+            delta.removed().add(pos.toImmutable());
+        }
+
+        private ChunkDelta getDelta(BlockPos pos) {
+            long chunkPos = ChunkPos.toLong(pos);
+            ChunkDelta delta = this.deltas.get(chunkPos);
+            if (delta == null) {
+                delta = new ChunkDelta(new HashMap<>(), new ArrayList<>());
+                this.deltas.put(chunkPos, delta);
+            }
+
+            return delta;
+        }
+
+        /**
+         * Applies every change to the chunk attachments and sends one update per chunk to the players tracking it.
+         *
+         * @param world The world the changes were made in.
+         */
+        public void commit(ServerWorld world) {
+            for (Long2ObjectMap.Entry<ChunkDelta> entry : this.deltas.long2ObjectEntrySet()) {
+                ChunkPos chunkPos = new ChunkPos(entry.getLongKey());
+                ChunkDelta delta = entry.getValue();
+                WorldChunk chunk = world.getChunk(chunkPos.x, chunkPos.z);
+                delta.invalidateShapes(world);
+
+                ChunkMultiblocks multiblocks = chunk.getAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT);
+                if (multiblocks == null) {
+                    if (delta.added().isEmpty())
+                        continue;
+
+                    // Attaching a new value syncs it in full, so there is no need for a delta
+                    multiblocks = new ChunkMultiblocks(delta.added());
+                    chunk.setAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT, multiblocks);
+                    continue;
+                }
+
+                multiblocks.apply(delta.added(), delta.removed());
+                if (multiblocks.isEmpty()) {
+                    chunk.removeAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT);
+                    continue;
+                }
+
+                chunk.markNeedsSaving();
+
+                var payload = new UpdateChunkMultiblocksPayload(chunkPos, delta.added(), delta.removed());
+                for (ServerPlayerEntity player : PlayerLookup.tracking(world, chunkPos)) {
+                    ServerPlayNetworking.send(player, payload);
+                }
+            }
+
+            this.deltas.clear();
+        }
+
+        private record ChunkDelta(Map<BlockPos, MultiblockData> added, List<BlockPos> removed) {
+            private void invalidateShapes(World world) {
+                for (BlockPos pos : this.added.keySet()) {
+                    MultiblockBlock.SHAPE_CACHE.invalidate(world, pos);
+                }
+
+                for (BlockPos pos : this.removed) {
+                    MultiblockBlock.SHAPE_CACHE.invalidate(world, pos);
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package dev.turtywurty.industria.multiblock;
 
 import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
@@ -21,12 +22,27 @@ public class MultiblockIOPort {
         this.transferTypes = List.of(transferTypes);
     }
 
-    public void tick(World world, BlockPos pos, BlockPos controller) {
+    /**
+     * Resolves every transfer type of this port to a {@link PortTransfer} between the controller and the block the
+     * port faces.
+     *
+     * @param world      The world the multiblock is in.
+     * @param pos        The position of the IO block this port is on.
+     * @param controller The position of the controller.
+     * @param lookups    The lookups of the IO block, which are shared between its ports.
+     * @param transfers  The list to add the transfers to.
+     */
+    public void resolveTransfers(ServerWorld world, BlockPos pos, BlockPos controller, TransferLookupCache lookups, List<PortTransfer<?>> transfers) {
+        BlockPos target = pos.offset(this.side);
         for (TransferType<?, ?, ?> transferType : this.transferTypes) {
-            transferType.pushTo(world, controller, pos.offset(this.side), this.side);
+            transfers.add(resolveTransfer(transferType, world, controller, target, lookups));
         }
     }
 
+    private <S> PortTransfer<S> resolveTransfer(TransferType<S, ?, ?> transferType, ServerWorld world, BlockPos controller, BlockPos target, TransferLookupCache lookups) {
+        return new PortTransfer<>(transferType, this.side, lookups.get(transferType, world, controller), lookups.get(transferType, world, target));
+    }
+
     public <T> T getProvider(TransferType<T, ?, ?> transferType, World world, BlockPos pos, BlockEntity controller) {
         return transferType.lookup(world, pos, controller.getCachedState(), controller, this.side);
     }
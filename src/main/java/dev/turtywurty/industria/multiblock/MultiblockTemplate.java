@@ -0,0 +1,233 @@
+package dev.turtywurty.industria.multiblock;
+
+import dev.turtywurty.industria.block.MultiblockBlock;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.BlockRotation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.Vec3i;
+import net.minecraft.world.WorldView;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * A declarative description of the blocks that make up a multiblock and the IO ports they have.
+ * <p>
+ * The offsets are given relative to the primary block for a multiblock facing {@link Direction#NORTH}. The positions
+ * and the port table for all four horizontal facings are computed once when the template is built, so finding the
+ * positions of a multiblock and looking up the ports of one of its blocks do no geometry math.
+ */
+public class MultiblockTemplate {
+    private static final int SIDES = Direction.values().length;
+
+    private final PositionValidator validator;
+    private final Map<Direction, Rotation> rotations = new EnumMap<>(Direction.class);
+
+    private MultiblockTemplate(List<BlockPos> offsets, boolean rotates, PositionValidator validator, PortProvider portProvider) {
+        this.validator = validator;
+        for (Direction facing : Direction.Type.HORIZONTAL) {
+            this.rotations.put(facing, new Rotation(offsets, rotates, facing, portProvider));
+        }
+    }
+
+    /**
+     * @return The number of blocks in the multiblock, not counting the primary block.
+     */
+    public int size() {
+        return this.rotations.get(Direction.NORTH).size;
+    }
+
+    /**
+     * Finds the positions of the blocks that make up the multiblock.
+     *
+     * @param world      The world the multiblock is being built in.
+     * @param primaryPos The position of the primary block.
+     * @param facing     The direction the multiblock is facing, or {@code null} for {@link Direction#NORTH}.
+     * @return Every position, or an empty list if any of them is not valid.
+     */
+    public List<BlockPos> findPositions(WorldView world, BlockPos primaryPos, @Nullable Direction facing) {
+        Rotation rotation = getRotation(facing);
+        int x = primaryPos.getX();
+        int y = primaryPos.getY();
+        int z = primaryPos.getZ();
+
+        var mutablePos = new BlockPos.Mutable();
+        for (int index = 0; index < rotation.size; index++) {
+            mutablePos.set(x + rotation.offsetX[index], y + rotation.offsetY[index], z + rotation.offsetZ[index]);
+            if (!this.validator.isValid(world, mutablePos))
+                return List.of();
+        }
+
+        List<BlockPos> positions = new ArrayList<>(rotation.size);
+        for (int index = 0; index < rotation.size; index++) {
+            positions.add(new BlockPos(x + rotation.offsetX[index], y + rotation.offsetY[index], z + rotation.offsetZ[index]));
+        }
+
+        return positions;
+    }
+
+    /**
+     * Gets the port on one side of a block in the multiblock.
+     *
+     * @param facing            The direction the multiblock is facing, or {@code null} for {@link Direction#NORTH}.
+     * @param offsetFromPrimary The offset from the primary block, as given by {@link MultiblockBlock#getOffsetFromPrimary}.
+     * @param side              The side of the block.
+     * @return The port, or {@code null} if there is none.
+     */
+    public @Nullable MultiblockIOPort getPort(@Nullable Direction facing, Vec3i offsetFromPrimary, Direction side) {
+        Rotation rotation = getRotation(facing);
+        int index = rotation.indices.get(BlockPos.asLong(offsetFromPrimary.getX(), offsetFromPrimary.getY(), offsetFromPrimary.getZ()));
+        return index < 0 ? null : rotation.ports[index * SIDES + side.ordinal()];
+    }
+
+    /**
+     * @return A map containing only the port on the given side, in the form {@link Multiblockable#getPorts} uses.
+     */
+    public Map<Direction, MultiblockIOPort> getPorts(@Nullable Direction facing, Vec3i offsetFromPrimary, Direction side) {
+        MultiblockIOPort port = getPort(facing, offsetFromPrimary, side);
+        return port == null ? Map.of() : Map.of(side, port);
+    }
+
+    /**
+     * @return Whether the block at the given offset has a port on any side.
+     */
+    public boolean hasPorts(@Nullable Direction facing, Vec3i offsetFromPrimary) {
+        Rotation rotation = getRotation(facing);
+        int index = rotation.indices.get(BlockPos.asLong(offsetFromPrimary.getX(), offsetFromPrimary.getY(), offsetFromPrimary.getZ()));
+        return index >= 0 && rotation.hasPorts[index];
+    }
+
+    private Rotation getRotation(@Nullable Direction facing) {
+        Rotation rotation = facing == null ? null : this.rotations.get(facing);
+        return rotation == null ? this.rotations.get(Direction.NORTH) : rotation;
+    }
+
+    private static BlockRotation toBlockRotation(Direction facing) {
+        return switch (facing) {
+            case EAST -> BlockRotation.CLOCKWISE_90;
+            case SOUTH -> BlockRotation.CLOCKWISE_180;
+            case WEST -> BlockRotation.COUNTERCLOCKWISE_90;
+            default -> BlockRotation.NONE;
+        };
+    }
+
+    /**
+     * The positions and ports of the template for one facing, stored as flat arrays indexed by block.
+     */
+    private static class Rotation {
+        private final int size;
+        private final int[] offsetX, offsetY, offsetZ;
+        private final Long2IntOpenHashMap indices = new Long2IntOpenHashMap();
+        private final MultiblockIOPort[] ports;
+        private final boolean[] hasPorts;
+
+        private Rotation(List<BlockPos> offsets, boolean rotates, Direction facing, PortProvider portProvider) {
+            this.size = offsets.size();
+            this.offsetX = new int[this.size];
+            this.offsetY = new int[this.size];
+            this.offsetZ = new int[this.size];
+            this.ports = new MultiblockIOPort[this.size * SIDES];
+            this.hasPorts = new boolean[this.size];
+            this.indices.defaultReturnValue(-1);
+
+            BlockRotation rotation = rotates ? toBlockRotation(facing) : BlockRotation.NONE;
+            for (int index = 0; index < this.size; index++) {
+                BlockPos offset = offsets.get(index).rotate(rotation);
+                this.offsetX[index] = offset.getX();
+                this.offsetY[index] = offset.getY();
+                this.offsetZ[index] = offset.getZ();
+
+                Vec3i offsetFromPrimary = MultiblockBlock.getOffsetFromPrimary(BlockPos.ORIGIN, offset, facing);
+                this.indices.put(BlockPos.asLong(offsetFromPrimary.getX(), offsetFromPrimary.getY(), offsetFromPrimary.getZ()), index);
+
+                for (Direction side : Direction.values()) {
+                    List<TransferType<?, ?, ?>> transferTypes = portProvider.getTransferTypes(offsetFromPrimary, side, facing);
+                    if (transferTypes.isEmpty())
+                        continue;
+
+                    this.ports[index * SIDES + side.ordinal()] = new MultiblockIOPort(side, List.copyOf(transferTypes));
+                    this.hasPorts[index] = true;
+                }
+            }
+        }
+    }
+
+    public static class Builder {
+        private final Set<BlockPos> offsets = new LinkedHashSet<>();
+        private boolean rotates = true;
+        private PositionValidator validator = PositionValidator.REPLACEABLE;
+        private PortProvider portProvider = (offsetFromPrimary, side, facing) -> List.of();
+
+        /**
+         * Adds every offset in the box (inclusive), except for the primary block itself.
+         */
+        public Builder box(int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+            for (int x = minX; x <= maxX; x++) {
+                for (int y = minY; y <= maxY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        if (x == 0 && y == 0 && z == 0)
+                            continue;
+
+                        this.offsets.add(new BlockPos(x, y, z));
+                    }
+                }
+            }
+
+            return this;
+        }
+
+        public Builder offset(Vec3i offset) {
+            this.offsets.add(new BlockPos(offset));
+            return this;
+        }
+
+        public Builder offset(int x, int y, int z) {
+            return offset(new Vec3i(x, y, z));
+        }
+
+        /**
+         * Sets whether the offsets turn with the facing of the multiblock. If not, they are used as world offsets for
+         * every facing.
+         */
+        public Builder rotates(boolean rotates) {
+            this.rotates = rotates;
+            return this;
+        }
+
+        public Builder validator(PositionValidator validator) {
+            this.validator = validator;
+            return this;
+        }
+
+        public Builder ports(PortProvider portProvider) {
+            this.portProvider = portProvider;
+            return this;
+        }
+
+        public MultiblockTemplate build() {
+            return new MultiblockTemplate(List.copyOf(this.offsets), this.rotates, this.validator, this.portProvider);
+        }
+    }
+
+    @FunctionalInterface
+    public interface PositionValidator {
+        PositionValidator REPLACEABLE = (world, pos) -> world.getBlockState(pos).isReplaceable();
+        PositionValidator ANY = (world, pos) -> true;
+
+        boolean isValid(WorldView world, BlockPos pos);
+    }
+
+    @FunctionalInterface
+    public interface PortProvider {
+        /**
+         * Gets the transfer types of the port on one side of a block. This is only called when the template is built.
+         *
+         * @param offsetFromPrimary The offset from the primary block, as given by {@link MultiblockBlock#getOffsetFromPrimary}.
+         * @param side              The side of the block.
+         * @param facing            The direction the multiblock is facing.
+         * @return The transfer types of the port, or an empty list if there is no port.
+         */
+        List<TransferType<?, ?, ?>> getTransferTypes(Vec3i offsetFromPrimary, Direction side, Direction facing);
+    }
+}
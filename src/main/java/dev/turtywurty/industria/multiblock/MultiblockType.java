@@ -12,6 +12,7 @@ import net.minecraft.util.shape.VoxelShape;
 import net.minecraft.world.World;
 import net.minecraft.world.WorldView;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -24,6 +25,7 @@ import java.util.function.BiConsumer;
  * <li>Whether the multiblock has a direction property</li>
  * <li>The action to perform when the primary block is used</li>
  * <li>The action to perform when the multiblock is broken</li>
+ * <li>The {@link MultiblockTemplate} describing its blocks and ports</li>
  * </ul>
  */
 public class MultiblockType<T extends BlockEntity> {
@@ -32,19 +34,22 @@ public class MultiblockType<T extends BlockEntity> {
     private final boolean hasDirectionProperty; // Default: true
     private final int numBlocks;
     private final Function3<WorldView, BlockPos, Direction, VoxelShape> shapeFactory;
+    private final @Nullable MultiblockTemplate template;
 
     /**
      * @param hasDirectionProperty Whether the multiblock has a direction property
      * @param numBlocks            The number of blocks in the multiblock
      * @param onPrimaryBlockUse    The action to perform when the primary block is used
      * @param onMultiblockBreak    The action to perform when the multiblock is broken
+     * @param template             The template describing the blocks and ports of the multiblock
      */
-    private MultiblockType(boolean hasDirectionProperty, int numBlocks, QuadConsumer<World, PlayerEntity, BlockHitResult, BlockPos> onPrimaryBlockUse, BiConsumer<World, BlockPos> onMultiblockBreak, Function3<WorldView, BlockPos, Direction, VoxelShape> shapeFactory) {
+    private MultiblockType(boolean hasDirectionProperty, int numBlocks, QuadConsumer<World, PlayerEntity, BlockHitResult, BlockPos> onPrimaryBlockUse, BiConsumer<World, BlockPos> onMultiblockBreak, Function3<WorldView, BlockPos, Direction, VoxelShape> shapeFactory, @Nullable MultiblockTemplate template) {
         this.hasDirectionProperty = hasDirectionProperty;
         this.numBlocks = numBlocks;
         this.onPrimaryBlockUse = onPrimaryBlockUse;
         this.onMultiblockBreak = onMultiblockBreak;
         this.shapeFactory = shapeFactory;
+        this.template = template;
     }
 
     public void onPrimaryBlockUse(World world, PlayerEntity player, BlockHitResult hitResult, BlockPos pos) {
@@ -78,6 +83,15 @@ public class MultiblockType<T extends BlockEntity> {
         return this.shapeFactory.apply(world, pos, direction);
     }
 
+    /**
+     * Gets the template describing the blocks and ports of the multiblock
+     *
+     * @return The template, or {@code null} if the controller finds its own positions and ports
+     */
+    public @Nullable MultiblockTemplate getTemplate() {
+        return this.template;
+    }
+
     public static class Builder<T extends BlockEntity> {
         private final int numBlocks;
         private boolean hasDirectionProperty = true;
@@ -97,6 +111,8 @@ public class MultiblockType<T extends BlockEntity> {
         private Function3<WorldView, BlockPos, Direction, VoxelShape> shapeFactory =
                 (world, pos, direction) -> shapes.get(direction);
 
+        private MultiblockTemplate template;
+
         public Builder(int numBlocks) {
             this.numBlocks = numBlocks;
         }
@@ -134,8 +150,17 @@ public class MultiblockType<T extends BlockEntity> {
             return this;
         }
 
+        public Builder<T> template(MultiblockTemplate template) {
+            this.template = template;
+            return this;
+        }
+
+        public Builder<T> template(MultiblockTemplate.Builder template) {
+            return template(template.build());
+        }
+
         public MultiblockType<T> build() {
-            return new MultiblockType<>(this.hasDirectionProperty, this.numBlocks, this.onPrimaryBlockUse, this.onMultiblockBreak, this.shapeFactory);
+            return new MultiblockType<>(this.hasDirectionProperty, this.numBlocks, this.onPrimaryBlockUse, this.onMultiblockBreak, this.shapeFactory, this.template);
         }
     }
 }
@@ -2,7 +2,6 @@ package dev.turtywurty.industria.multiblock;
 
 import com.mojang.datafixers.util.Pair;
 import dev.turtywurty.industria.block.MultiblockBlock;
-import dev.turtywurty.industria.init.AttachmentTypeInit;
 import dev.turtywurty.industria.init.BlockInit;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
@@ -12,12 +11,12 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NbtIntArray;
 import net.minecraft.nbt.NbtList;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.state.property.Properties;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3i;
 import net.minecraft.world.World;
-import net.minecraft.world.chunk.Chunk;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
@@ -55,9 +54,29 @@ public interface Multiblockable {
      * @return A list of positions that make up the multiblock.
      * @apiNote This method should return all the positions (if it is valid) or a list of positions that are invalid.
      * If the list of positions is less than the number of blocks the multiblock requires, the multiblock will not be built.
+     * By default, this uses the {@link MultiblockTemplate} of the {@link #type()}.
      * @see MultiblockType#numBlocks()
      */
-    List<BlockPos> findPositions(@Nullable Direction facing);
+    default List<BlockPos> findPositions(@Nullable Direction facing) {
+        MultiblockTemplate template = type().getTemplate();
+        if (template == null || !(this instanceof BlockEntity blockEntity) || blockEntity.getWorld() == null)
+            return List.of();
+
+        return template.findPositions(blockEntity.getWorld(), blockEntity.getPos(), facing);
+    }
+
+    /**
+     * Gets the direction the multiblock is facing.
+     *
+     * @return The facing of the controller, or {@code null} if the multiblock has no direction property.
+     */
+    default @Nullable Direction getFacing() {
+        if (!type().hasDirectionProperty() || !(this instanceof BlockEntity blockEntity))
+            return null;
+
+        BlockState state = blockEntity.getCachedState();
+        return state.contains(Properties.HORIZONTAL_FACING) ? state.get(Properties.HORIZONTAL_FACING) : null;
+    }
 
     /**
      * Gets the positions of the blocks that make up the multiblock.
@@ -92,6 +111,8 @@ public interface Multiblockable {
             return;
         }
 
+        var updates = new ChunkMultiblocks.Batch();
+        var data = new MultiblockData(pos, type());
         for (BlockPos position : checkPositions) {
             Vec3i offset = MultiblockBlock.getOffsetFromPrimary(pos, position, facing);
             Block toSet = BlockInit.MULTIBLOCK_BLOCK;
@@ -105,14 +126,10 @@ public interface Multiblockable {
 
             world.setBlockState(position, toSet.getDefaultState());
             getMultiblockPositions().add(position);
-
-            Chunk chunk = world.getChunk(position);
-            Map<BlockPos, MultiblockData> map = chunk.getAttachedOrCreate(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT, HashMap::new);
-            Map<BlockPos, MultiblockData> copy = new HashMap<>(map);
-            copy.put(position, new MultiblockData(pos, type()));
-            chunk.setAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT, copy);
+            updates.put(position, data);
         }
 
+        updates.commit((ServerWorld) world);
         onSuccessfulBuild.run();
 
         long endTime = System.nanoTime();
@@ -129,28 +146,24 @@ public interface Multiblockable {
      * @apiNote This method should only be called on the server side.
      */
     default void breakMultiblock(World world, BlockPos pos) {
-        if (world == null)
+        if (!(world instanceof ServerWorld serverWorld))
             return;
 
+        // Remove the data first, so breaking the blocks does not trigger another break of this multiblock
+        var updates = new ChunkMultiblocks.Batch();
+        List<BlockPos> toBreak = new ArrayList<>();
         for (BlockPos machinePos : getMultiblockPositions()) {
             BlockState blockState = world.getBlockState(machinePos);
             if (!blockState.isOf(BlockInit.MULTIBLOCK_BLOCK) && !blockState.isOf(BlockInit.MULTIBLOCK_IO))
                 continue;
 
-            world.breakBlock(machinePos, false);
+            updates.remove(machinePos);
+            toBreak.add(machinePos);
+        }
 
-            Chunk chunk = world.getChunk(machinePos);
-            Map<BlockPos, MultiblockData> map = chunk.getAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT);
-            if (map == null)
-                return;
-
-            Map<BlockPos, MultiblockData> copy = new HashMap<>(map);
-            copy.remove(machinePos);
-            if (copy.isEmpty()) {
-                chunk.removeAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT);
-            } else {
-                chunk.setAttached(AttachmentTypeInit.MULTIBLOCK_ATTACHMENT, copy);
-            }
+        updates.commit(serverWorld);
+        for (BlockPos machinePos : toBreak) {
+            world.breakBlock(machinePos, false);
         }
 
         world.breakBlock(pos, true);
@@ -187,8 +200,13 @@ public interface Multiblockable {
      * @param offsetFromPrimary The offset from the primary block of the multiblock.
      * @param direction         The direction the ports are in.
      * @return A map of ports that are in the specified direction.
+     * @apiNote By default, this is a lookup in the {@link MultiblockTemplate} of the {@link #type()}.
      */
     default Map<Direction, MultiblockIOPort> getPorts(Vec3i offsetFromPrimary, Direction direction) {
-        return Collections.emptyMap();
+        MultiblockTemplate template = type().getTemplate();
+        if (template == null)
+            return Collections.emptyMap();
+
+        return template.getPorts(getFacing(), offsetFromPrimary, direction);
     }
 }
@@ -0,0 +1,66 @@
+package dev.turtywurty.industria.multiblock;
+
+import net.minecraft.util.math.Direction;
+
+/**
+ * One transfer type of a {@link MultiblockIOPort}, resolved to the cached lookups of the controller and of the block
+ * the port faces, so that ticking it does not look anything up.
+ * <p>
+ * A transfer that moves nothing (because the controller is empty, or the target is full or missing) goes to sleep,
+ * for twice as long each time it keeps failing, up to {@link #MAX_SLEEP_TICKS}. It is woken straight away by
+ * {@link #wake()}.
+ *
+ * @param <S> The type of storage.
+ */
+public class PortTransfer<S> {
+    private static final int MAX_SLEEP_TICKS = 20;
+
+    private final TransferType<S, ?, ?> transferType;
+    private final Direction side;
+    private final TransferType.CachedLookup<S> controller;
+    private final TransferType.CachedLookup<S> target;
+
+    private long wakeTime;
+    private int sleepTicks = 1;
+
+    public PortTransfer(TransferType<S, ?, ?> transferType, Direction side, TransferType.CachedLookup<S> controller, TransferType.CachedLookup<S> target) {
+        this.transferType = transferType;
+        this.side = side;
+        this.controller = controller;
+        this.target = target;
+    }
+
+    /**
+     * Pushes from the controller to the target, unless this transfer is asleep.
+     *
+     * @param time The current world time.
+     * @return The world time this transfer next wants to be ticked at.
+     */
+    public long tick(long time) {
+        if (time < this.wakeTime)
+            return this.wakeTime;
+
+        if (this.transferType.pushTo(this.controller, this.target, this.side)) {
+            this.sleepTicks = 1;
+            this.wakeTime = time + 1;
+        } else {
+            this.wakeTime = time + this.sleepTicks;
+            this.sleepTicks = Math.min(this.sleepTicks * 2, MAX_SLEEP_TICKS);
+        }
+
+        return this.wakeTime;
+    }
+
+    public void wake() {
+        this.wakeTime = 0;
+        this.sleepTicks = 1;
+    }
+
+    public TransferType<S, ?, ?> getTransferType() {
+        return this.transferType;
+    }
+
+    public Direction getSide() {
+        return this.side;
+    }
+}
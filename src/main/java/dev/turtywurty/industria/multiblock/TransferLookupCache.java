@@ -0,0 +1,38 @@
+package dev.turtywurty.industria.multiblock;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The {@link TransferType.CachedLookup}s that something transferring every tick keeps, keyed by transfer type and
+ * position, so that each one is only created once.
+ */
+public class TransferLookupCache {
+    private final Map<TransferType<?, ?, ?>, Long2ObjectMap<TransferType.CachedLookup<?>>> lookups = new IdentityHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public <S> TransferType.CachedLookup<S> get(TransferType<S, ?, ?> transferType, ServerWorld world, BlockPos pos) {
+        Long2ObjectMap<TransferType.CachedLookup<?>> byPos = this.lookups.get(transferType);
+        if (byPos == null) {
+            byPos = new Long2ObjectOpenHashMap<>();
+            this.lookups.put(transferType, byPos);
+        }
+
+        TransferType.CachedLookup<?> lookup = byPos.get(pos.asLong());
+        if (lookup == null) {
+            lookup = transferType.createCachedLookup(world, pos);
+            byPos.put(pos.asLong(), lookup);
+        }
+
+        return (TransferType.CachedLookup<S>) lookup;
+    }
+
+    public void clear() {
+        this.lookups.clear();
+    }
+}
@@ -8,6 +8,7 @@ import dev.turtywurty.gasapi.api.storage.GasStorage;
 import dev.turtywurty.heatapi.api.HeatStorage;
 import dev.turtywurty.industria.init.BlockEntityTypeInit;
 import dev.turtywurty.industria.util.TransferUtils;
+import net.fabricmc.fabric.api.lookup.v1.block.BlockApiCache;
 import net.fabricmc.fabric.api.lookup.v1.block.BlockApiLookup;
 import net.fabricmc.fabric.api.lookup.v1.item.ItemApiLookup;
 import net.fabricmc.fabric.api.transfer.v1.context.ContainerItemContext;
@@ -24,6 +25,7 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
@@ -195,13 +197,29 @@ public class TransferType<S, V, A extends Number> {
         BlockState secondaryState = world.getBlockState(secondaryPos);
         BlockEntity secondaryBlockEntity = world.getBlockEntity(secondaryPos);
         S secondaryStorage = lookup(world, secondaryPos, secondaryState, secondaryBlockEntity, side);
+        pushTo(primaryStorage, secondaryStorage);
+    }
+
+    public boolean pushTo(CachedLookup<S> primary, CachedLookup<S> secondary, Direction side) {
+        return pushTo(primary.find(side), secondary.find(side));
+    }
+
+    /**
+     * Moves as much as possible from one storage to the other.
+     *
+     * @return Whether anything was moved.
+     */
+    public boolean pushTo(@Nullable S primaryStorage, @Nullable S secondaryStorage) {
+        if (primaryStorage == null || !supportsExtract.test(primaryStorage))
+            return false;
+
         if (secondaryStorage == null || !supportsInsert.test(secondaryStorage))
-            return;
+            return false;
 
         try (Transaction transaction = Transaction.openOuter()) {
             V value = valueGetter.apply(primaryStorage);
             if (isBlank.test(value))
-                return;
+                return false;
 
             A maxAmount;
             try (Transaction transaction1 = transaction.openNested()) {
@@ -210,13 +228,16 @@ public class TransferType<S, V, A extends Number> {
             }
 
             if (maxAmount.doubleValue() <= 0)
-                return;
+                return false;
 
             A inserted = insert(secondaryStorage, value, maxAmount, transaction);
             if (inserted.doubleValue() > 0) {
                 extract(primaryStorage, value, inserted, transaction);
                 transaction.commit();
+                return true;
             }
+
+            return false;
         }
     }
 
@@ -228,6 +249,19 @@ public class TransferType<S, V, A extends Number> {
         return this.blockLookup.find(world, pos, state, blockEntity, direction);
     }
 
+    /**
+     * Creates a handle for looking up the storage of this type at one position. The handle is backed by a
+     * {@link BlockApiCache}, so the block entity and provider are only resolved again once the block at the position
+     * has changed.
+     *
+     * @param world The world to look up in.
+     * @param pos   The position to look up.
+     * @return The handle, which should be kept and reused for repeated lookups.
+     */
+    public CachedLookup<S> createCachedLookup(ServerWorld world, BlockPos pos) {
+        return new CachedLookup<>(BlockApiCache.create(this.blockLookup, world, pos));
+    }
+
     public S lookup(ItemStack stack, ContainerItemContext context) {
         return this.itemLookup.find(stack, context);
     }
@@ -280,6 +314,16 @@ public class TransferType<S, V, A extends Number> {
         }
     }
 
+    public record CachedLookup<S>(BlockApiCache<S, @Nullable Direction> cache) {
+        public @Nullable S find(@Nullable Direction side) {
+            return this.cache.find(side);
+        }
+
+        public BlockPos getPos() {
+            return this.cache.getPos();
+        }
+    }
+
     @FunctionalInterface
     public interface InsertExtractFunction<S, V, A extends Number> {
         A function(S storage, V value, A maxAmount, TransactionContext transaction);
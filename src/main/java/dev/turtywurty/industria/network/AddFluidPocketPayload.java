@@ -0,0 +1,28 @@
+package dev.turtywurty.industria.network;
+
+import dev.turtywurty.industria.Industria;
+import dev.turtywurty.industria.persistent.ChunkFluidPockets;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.world.World;
+
+/**
+ * The part of a fluid pocket within one chunk, sent to the players tracking that chunk. Clients merge the slices of
+ * a pocket together, and drop them again when the chunk unloads.
+ */
+public record AddFluidPocketPayload(RegistryKey<World> world, ChunkFluidPockets.Slice slice) implements CustomPayload {
+    public static final Id<AddFluidPocketPayload> ID = new Id<>(Industria.id("add_fluid_pocket"));
+    public static final PacketCodec<RegistryByteBuf, AddFluidPocketPayload> CODEC =
+            PacketCodec.tuple(
+                    RegistryKey.createPacketCodec(RegistryKeys.WORLD), AddFluidPocketPayload::world,
+                    ChunkFluidPockets.Slice.PACKET_CODEC, AddFluidPocketPayload::slice,
+                    AddFluidPocketPayload::new);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
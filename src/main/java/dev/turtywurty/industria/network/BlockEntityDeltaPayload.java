@@ -0,0 +1,97 @@
+package dev.turtywurty.industria.network;
+
+import dev.turtywurty.industria.Industria;
+import net.minecraft.nbt.NbtCompound;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record BlockEntityDeltaPayload(List<Entry> entries) implements CustomPayload {
+    public static final Id<BlockEntityDeltaPayload> ID = new Id<>(Industria.id("block_entity_delta"));
+    public static final PacketCodec<RegistryByteBuf, BlockEntityDeltaPayload> CODEC =
+            PacketCodec.tuple(
+                    Entry.PACKET_CODEC.collect(PacketCodecs.toList()), BlockEntityDeltaPayload::entries,
+                    BlockEntityDeltaPayload::new);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+
+    /**
+     * The changes to the sync data of one block entity.
+     *
+     * @param pos     The position of the block entity.
+     * @param changed The top level keys that were added or changed, with their new values.
+     * @param removed The top level keys that were removed.
+     */
+    public record Entry(BlockPos pos, NbtCompound changed, List<String> removed) {
+        public static final PacketCodec<RegistryByteBuf, Entry> PACKET_CODEC =
+                PacketCodec.tuple(
+                        BlockPos.PACKET_CODEC, Entry::pos,
+                        PacketCodecs.NBT_COMPOUND, Entry::changed,
+                        PacketCodecs.STRING.collect(PacketCodecs.toList()), Entry::removed,
+                        Entry::new);
+
+        /**
+         * Combines this with the changes that came after it, as if both had been applied one after the other.
+         *
+         * @param newer The later changes to the same block entity.
+         * @return The combined changes.
+         */
+        public Entry merge(Entry newer) {
+            var changed = new NbtCompound();
+            for (String key : this.changed.getKeys()) {
+                if (!newer.removed.contains(key)) {
+                    changed.put(key, this.changed.get(key));
+                }
+            }
+
+            for (String key : newer.changed.getKeys()) {
+                changed.put(key, newer.changed.get(key));
+            }
+
+            List<String> removed = new ArrayList<>(newer.removed);
+            for (String key : this.removed) {
+                if (!newer.changed.contains(key) && !removed.contains(key)) {
+                    removed.add(key);
+                }
+            }
+
+            return new Entry(this.pos, changed, removed);
+        }
+
+        /**
+         * @return Roughly how many bytes this takes up in a packet.
+         */
+        public int getSizeInBytes() {
+            int size = Long.BYTES + this.changed.getSizeInBytes();
+            for (String key : this.removed) {
+                size += key.length() + 1;
+            }
+
+            return size;
+        }
+
+        /**
+         * Applies the changes on top of the current data of a block entity.
+         *
+         * @param nbt The current data, which is modified.
+         */
+        public void apply(NbtCompound nbt) {
+            for (String key : this.removed) {
+                nbt.remove(key);
+            }
+
+            // Not copyFrom, as that merges nested compounds instead of replacing them
+            for (String key : this.changed.getKeys()) {
+                nbt.put(key, this.changed.get(key));
+            }
+        }
+    }
+}
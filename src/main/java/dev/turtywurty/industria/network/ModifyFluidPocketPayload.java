@@ -0,0 +1,40 @@
+package dev.turtywurty.industria.network;
+
+import dev.turtywurty.industria.Industria;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.util.Uuids;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+
+import java.util.UUID;
+
+public record ModifyFluidPocketPayload(Operation operation, RegistryKey<World> world, UUID pocketId,
+                                       BlockPos pos) implements CustomPayload {
+    public static final Id<ModifyFluidPocketPayload> ID = new Id<>(Industria.id("modify_fluid_pocket"));
+    public static final PacketCodec<RegistryByteBuf, ModifyFluidPocketPayload> CODEC =
+            PacketCodec.tuple(
+                    Operation.PACKET_CODEC, ModifyFluidPocketPayload::operation,
+                    RegistryKey.createPacketCodec(RegistryKeys.WORLD), ModifyFluidPocketPayload::world,
+                    Uuids.PACKET_CODEC, ModifyFluidPocketPayload::pocketId,
+                    BlockPos.PACKET_CODEC, ModifyFluidPocketPayload::pos,
+                    ModifyFluidPocketPayload::new);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+
+    public enum Operation {
+        ADD_POSITION,
+        REMOVE_POSITION;
+
+        public static final PacketCodec<ByteBuf, Operation> PACKET_CODEC =
+                PacketCodecs.STRING.xmap(Operation::valueOf, Operation::name);
+    }
+}
@@ -0,0 +1,26 @@
+package dev.turtywurty.industria.network;
+
+import dev.turtywurty.industria.Industria;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryKeys;
+import net.minecraft.util.Uuids;
+import net.minecraft.world.World;
+
+import java.util.UUID;
+
+public record RemoveFluidPocketPayload(RegistryKey<World> world, UUID pocketId) implements CustomPayload {
+    public static final Id<RemoveFluidPocketPayload> ID = new Id<>(Industria.id("remove_fluid_pocket"));
+    public static final PacketCodec<RegistryByteBuf, RemoveFluidPocketPayload> CODEC =
+            PacketCodec.tuple(
+                    RegistryKey.createPacketCodec(RegistryKeys.WORLD), RemoveFluidPocketPayload::world,
+                    Uuids.PACKET_CODEC, RemoveFluidPocketPayload::pocketId,
+                    RemoveFluidPocketPayload::new);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,31 @@
+package dev.turtywurty.industria.network;
+
+import dev.turtywurty.industria.Industria;
+import dev.turtywurty.industria.multiblock.MultiblockData;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public record UpdateChunkMultiblocksPayload(ChunkPos chunkPos, Map<BlockPos, MultiblockData> added,
+                                            List<BlockPos> removed) implements CustomPayload {
+    public static final Id<UpdateChunkMultiblocksPayload> ID = new Id<>(Industria.id("update_chunk_multiblocks"));
+    public static final PacketCodec<RegistryByteBuf, UpdateChunkMultiblocksPayload> CODEC =
+            PacketCodec.tuple(
+                    PacketCodecs.VAR_LONG.xmap(ChunkPos::new, ChunkPos::toLong), UpdateChunkMultiblocksPayload::chunkPos,
+                    PacketCodecs.map(HashMap::new, BlockPos.PACKET_CODEC, MultiblockData.PACKET_CODEC), UpdateChunkMultiblocksPayload::added,
+                    PacketCodecs.collection(ArrayList::new, BlockPos.PACKET_CODEC), UpdateChunkMultiblocksPayload::removed,
+                    UpdateChunkMultiblocksPayload::new);
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
@@ -0,0 +1,139 @@
+package dev.turtywurty.industria.persistent;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import dev.turtywurty.industria.util.ExtraPacketCodecs;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.util.Uuids;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.LongStream;
+
+/**
+ * The parts of every fluid pocket that lie within a single chunk. This is what gets saved with the chunk.
+ *
+ * @param slices The pocket slices in the chunk.
+ * @see WorldFluidPocketsState
+ */
+public record ChunkFluidPockets(List<Slice> slices) {
+    public static final ChunkFluidPockets EMPTY = new ChunkFluidPockets(List.of());
+
+    public static final Codec<ChunkFluidPockets> CODEC = Slice.CODEC.listOf()
+            .xmap(ChunkFluidPockets::new, ChunkFluidPockets::slices);
+
+    public ChunkFluidPockets {
+        slices = List.copyOf(slices);
+    }
+
+    public boolean isEmpty() {
+        return this.slices.isEmpty();
+    }
+
+    /**
+     * @return A copy of this with the given slice added, merged into any existing slice of the same pocket.
+     */
+    public ChunkFluidPockets with(Slice slice) {
+        List<Slice> copy = new ArrayList<>(this.slices.size() + 1);
+        boolean merged = false;
+        for (Slice existing : this.slices) {
+            if (!merged && existing.id().equals(slice.id())) {
+                copy.add(existing.merge(slice));
+                merged = true;
+            } else {
+                copy.add(existing);
+            }
+        }
+
+        if (!merged) {
+            copy.add(slice);
+        }
+
+        return new ChunkFluidPockets(copy);
+    }
+
+    /**
+     * @return A copy of this without the given position in the given pocket, or this if nothing changed.
+     */
+    public ChunkFluidPockets withoutPosition(UUID pocketId, long pos) {
+        for (int index = 0; index < this.slices.size(); index++) {
+            Slice slice = this.slices.get(index);
+            if (!slice.id().equals(pocketId))
+                continue;
+
+            long[] positions = slice.positions();
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] != pos)
+                    continue;
+
+                List<Slice> copy = new ArrayList<>(this.slices);
+                if (positions.length == 1) {
+                    copy.remove(index);
+                } else {
+                    long[] remaining = new long[positions.length - 1];
+                    System.arraycopy(positions, 0, remaining, 0, i);
+                    System.arraycopy(positions, i + 1, remaining, i, remaining.length - i);
+                    copy.set(index, new Slice(slice.id(), slice.fluidState(), remaining, slice.pocketChunks()));
+                }
+
+                return new ChunkFluidPockets(copy);
+            }
+
+            return this;
+        }
+
+        return this;
+    }
+
+    /**
+     * The positions of one fluid pocket within a chunk. Slices are never modified once created, which is also what
+     * makes them safe to hand to the network.
+     *
+     * @param id           The id of the pocket this slice belongs to.
+     * @param fluidState   The fluid of the pocket.
+     * @param positions    The positions in this chunk, packed with {@link net.minecraft.util.math.BlockPos#asLong()}.
+     * @param pocketChunks The packed {@link net.minecraft.util.math.ChunkPos}s of every chunk the pocket was stored in,
+     *                     so that the server can tell whether any of it is left in chunks that aren't loaded. Empty if
+     *                     that isn't known, and never sent to clients.
+     */
+    public record Slice(UUID id, FluidState fluidState, long[] positions, long[] pocketChunks) {
+        private static final Codec<long[]> LONG_ARRAY_CODEC = Codec.LONG_STREAM.xmap(LongStream::toArray, Arrays::stream);
+
+        public static final Codec<Slice> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Uuids.INT_STREAM_CODEC.fieldOf("Id").forGetter(Slice::id),
+                FluidState.CODEC.fieldOf("FluidState").forGetter(Slice::fluidState),
+                LONG_ARRAY_CODEC.fieldOf("Positions").forGetter(Slice::positions),
+                LONG_ARRAY_CODEC.optionalFieldOf("PocketChunks", new long[0]).forGetter(Slice::pocketChunks)
+        ).apply(instance, Slice::new));
+
+        public static final PacketCodec<RegistryByteBuf, Slice> PACKET_CODEC = PacketCodec.tuple(
+                Uuids.PACKET_CODEC, Slice::id,
+                PacketCodecs.registryCodec(FluidState.CODEC), Slice::fluidState,
+                ExtraPacketCodecs.LONG_ARRAY_PACKET_CODEC, Slice::positions,
+                Slice::new);
+
+        public Slice(UUID id, FluidState fluidState, long[] positions) {
+            this(id, fluidState, positions, new long[0]);
+        }
+
+        /**
+         * @return A slice with the positions and pocket chunks of both slices.
+         */
+        public Slice merge(Slice other) {
+            long[] combined = Arrays.copyOf(this.positions, this.positions.length + other.positions.length);
+            System.arraycopy(other.positions, 0, combined, this.positions.length, other.positions.length);
+
+            // If either side doesn't know where the rest of the pocket is, neither does the result
+            long[] chunks = this.pocketChunks.length == 0 || other.pocketChunks.length == 0 ? new long[0] :
+                    LongStream.concat(Arrays.stream(this.pocketChunks), Arrays.stream(other.pocketChunks))
+                            .distinct()
+                            .toArray();
+            return new Slice(this.id, this.fluidState, combined, chunks);
+        }
+    }
+}
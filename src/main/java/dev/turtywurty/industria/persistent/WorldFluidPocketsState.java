@@ -3,134 +3,594 @@ package dev.turtywurty.industria.persistent;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.turtywurty.industria.Industria;
-import dev.turtywurty.industria.network.SyncFluidPocketsPayload;
+import dev.turtywurty.industria.init.AttachmentTypeInit;
+import dev.turtywurty.industria.network.AddFluidPocketPayload;
+import dev.turtywurty.industria.network.ModifyFluidPocketPayload;
+import dev.turtywurty.industria.network.RemoveFluidPocketPayload;
+import dev.turtywurty.industria.util.BlockPosLongSet;
+import dev.turtywurty.industria.util.ExtraPacketCodecs;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.fluid.FluidState;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Uuids;
+import net.minecraft.util.WorldSavePath;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.world.PersistentState;
 import net.minecraft.world.PersistentStateManager;
 import net.minecraft.world.PersistentStateType;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.CopyOnWriteArrayList;
-
-public class WorldFluidPocketsState extends PersistentState {
-    public static final Codec<WorldFluidPocketsState> CODEC = RecordCodecBuilder.create(instance -> instance.group(
-            FluidPocket.CODEC.listOf().fieldOf("FluidPockets").forGetter(state -> state.fluidPockets)
-    ).apply(instance, pockets -> {
-        var state = new WorldFluidPocketsState();
-        state.fluidPockets.addAll(pockets);
-        return state;
-    }));
-
-    private static final PersistentStateType<WorldFluidPocketsState> TYPE = new PersistentStateType<>(
-            Industria.MOD_ID + ".fluid_pockets",
-            WorldFluidPocketsState::new,
-            CODEC,
+import net.minecraft.world.WorldAccess;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.WorldChunk;
+import net.minecraft.world.dimension.DimensionType;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * Index of the fluid pockets in the loaded chunks of a world. The pockets themselves are saved per chunk as
+ * {@link ChunkFluidPockets}, so this only ever holds the positions of chunks that are currently loaded.
+ * <p>
+ * Worldgen threads never touch this index; they only write slices to the chunks they generate (see
+ * {@link #attachToChunks(WorldAccess, FluidPocket)}). Those slices are committed here on the server thread once
+ * the chunk is loaded, so none of the methods on the index are synchronized.
+ */
+public class WorldFluidPocketsState {
+    private static final String LEGACY_ID = Industria.MOD_ID + ".fluid_pockets";
+    private static final PersistentStateType<LegacyFluidPockets> LEGACY_TYPE = new PersistentStateType<>(
+            LEGACY_ID,
+            LegacyFluidPockets::new,
+            LegacyFluidPockets.CODEC,
             null
     );
 
-    private final List<FluidPocket> fluidPockets = new CopyOnWriteArrayList<>();
+    private final Map<UUID, FluidPocket> fluidPockets = new HashMap<>();
+    private final Long2ObjectOpenHashMap<List<FluidPocket>> sectionIndex = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectOpenHashMap<List<FluidPocket>> chunkIndex = new Long2ObjectOpenHashMap<>();
+    private final Map<UUID, LongSet> pocketChunks = new HashMap<>();
+    private final Set<UUID> pocketsWithUnknownChunks = new HashSet<>();
+    private int version;
+    private @Nullable LegacyFluidPockets legacyPockets;
+
+    public static WorldFluidPocketsState getServerState(ServerWorld world) {
+        return world.getAttachedOrCreate(AttachmentTypeInit.FLUID_POCKETS_INDEX_ATTACHMENT, WorldFluidPocketsState::new);
+    }
 
-    public WorldFluidPocketsState() {}
+    /**
+     * Splits the pocket into one slice per chunk and stores each slice on its chunk. This is safe to call from
+     * worldgen threads, as neighbouring features that write to the same chunk are serialized on that chunk.
+     *
+     * @param world       The world (or chunk region) the pocket was generated in.
+     * @param fluidPocket The pocket to store.
+     * @return The slices that were stored, by packed {@link ChunkPos}.
+     */
+    public static Long2ObjectMap<ChunkFluidPockets.Slice> attachToChunks(WorldAccess world, FluidPocket fluidPocket) {
+        Long2ObjectMap<ChunkFluidPockets.Slice> slices = splitIntoSlices(fluidPocket);
+        for (Long2ObjectMap.Entry<ChunkFluidPockets.Slice> entry : slices.long2ObjectEntrySet()) {
+            long chunkPos = entry.getLongKey();
+            Chunk chunk = world.getChunk(ChunkPos.getPackedX(chunkPos), ChunkPos.getPackedZ(chunkPos));
+            synchronized (chunk) {
+                ChunkFluidPockets pockets = chunk.getAttachedOrElse(AttachmentTypeInit.FLUID_POCKETS_ATTACHMENT, ChunkFluidPockets.EMPTY);
+                chunk.setAttached(AttachmentTypeInit.FLUID_POCKETS_ATTACHMENT, pockets.with(entry.getValue()));
+            }
+        }
 
-    public WorldFluidPocketsState(List<FluidPocket> fluidPockets) {
-        this.fluidPockets.addAll(fluidPockets);
+        return slices;
     }
 
-    public static WorldFluidPocketsState getServerState(ServerWorld world) {
-        PersistentStateManager persistentStateManager = world.getPersistentStateManager();
-        return persistentStateManager.getOrCreate(TYPE);
+    /**
+     * Splits the pocket into one slice per chunk, each of which knows every chunk the pocket spans.
+     *
+     * @return The slices, by packed {@link ChunkPos}.
+     */
+    private static Long2ObjectMap<ChunkFluidPockets.Slice> splitIntoSlices(FluidPocket fluidPocket) {
+        Long2ObjectOpenHashMap<LongArrayList> positionsByChunk = new Long2ObjectOpenHashMap<>();
+        LongIterator iterator = fluidPocket.getPositions().iterator();
+        while (iterator.hasNext()) {
+            long pos = iterator.nextLong();
+            long chunkPos = ChunkPos.toLong(
+                    ChunkSectionPos.getSectionCoord(BlockPos.unpackLongX(pos)),
+                    ChunkSectionPos.getSectionCoord(BlockPos.unpackLongZ(pos)));
+            LongArrayList positions = positionsByChunk.get(chunkPos);
+            if (positions == null) {
+                positions = new LongArrayList();
+                positionsByChunk.put(chunkPos, positions);
+            }
+
+            positions.add(pos);
+        }
+
+        long[] pocketChunks = positionsByChunk.keySet().toLongArray();
+        Long2ObjectMap<ChunkFluidPockets.Slice> slices = new Long2ObjectOpenHashMap<>(positionsByChunk.size());
+        for (Long2ObjectMap.Entry<LongArrayList> entry : positionsByChunk.long2ObjectEntrySet()) {
+            slices.put(entry.getLongKey(), new ChunkFluidPockets.Slice(fluidPocket.id(), fluidPocket.fluidState(),
+                    entry.getValue().toLongArray(), pocketChunks));
+        }
+
+        return slices;
     }
 
-    public void addFluidPocket(FluidPocket fluidPocket) {
-        if(fluidPocket.isEmpty())
+    /**
+     * Picks up the pockets that older versions saved in the world level {@code industria.fluid_pockets} state. They
+     * are moved onto their chunks as those chunks load (see {@link #onChunkLoad(WorldChunk)}), and the legacy state
+     * keeps whatever has not been moved yet. Once a load finds it empty, the legacy file is renamed out of the way.
+     *
+     * @param world The world to migrate, on load.
+     */
+    public void migrateLegacyState(ServerWorld world) {
+        PersistentStateManager manager = world.getPersistentStateManager();
+        LegacyFluidPockets legacy = manager.get(LEGACY_TYPE);
+        if (legacy == null)
+            return;
+
+        if (legacy.isEmpty()) {
+            Path dataPath = DimensionType.getSaveDirectory(world.getRegistryKey(), world.getServer().getSavePath(WorldSavePath.ROOT))
+                    .resolve("data");
+            Path legacyPath = dataPath.resolve(LEGACY_ID + ".dat");
+            try {
+                Files.move(legacyPath, dataPath.resolve(LEGACY_ID + ".dat.migrated"), StandardCopyOption.REPLACE_EXISTING);
+                Industria.LOGGER.info("Finished migrating fluid pockets in {} to chunk storage", world.getRegistryKey().getValue());
+            } catch (IOException exception) {
+                Industria.LOGGER.error("Failed to move legacy fluid pockets file {} out of the way!", legacyPath, exception);
+            }
+
             return;
+        }
 
-        this.fluidPockets.add(fluidPocket);
-        markDirty();
+        this.legacyPockets = legacy;
+        Industria.LOGGER.info("Migrating fluid pockets in {} chunks of {} to chunk storage as they load",
+                legacy.slicesByChunk.size(), world.getRegistryKey().getValue());
     }
 
-    public boolean removeFluidPocket(FluidPocket fluidPocket) {
-        if(this.fluidPockets.remove(fluidPocket)) {
-            markDirty();
-            return true;
+    private void migrateLegacyChunk(WorldChunk chunk) {
+        List<ChunkFluidPockets.Slice> slices = this.legacyPockets.takeSlices(chunk.getPos().toLong());
+        if (this.legacyPockets.isEmpty()) {
+            this.legacyPockets = null;
         }
 
-        return false;
+        if (slices == null)
+            return;
+
+        ChunkFluidPockets pockets = chunk.getAttachedOrElse(AttachmentTypeInit.FLUID_POCKETS_ATTACHMENT, ChunkFluidPockets.EMPTY);
+        for (ChunkFluidPockets.Slice slice : slices) {
+            pockets = pockets.with(slice);
+        }
+
+        chunk.setAttached(AttachmentTypeInit.FLUID_POCKETS_ATTACHMENT, pockets);
+        chunk.markNeedsSaving();
+    }
+
+    /**
+     * Stores a pocket in an already loaded area and sends each of its slices to the players tracking that slice's
+     * chunk.
+     */
+    public void addFluidPocket(ServerWorld world, FluidPocket fluidPocket) {
+        if (fluidPocket.isEmpty())
+            return;
+
+        Long2ObjectMap<ChunkFluidPockets.Slice> slices = attachToChunks(world, fluidPocket);
+        this.fluidPockets.put(fluidPocket.id(), fluidPocket);
+        this.pocketChunks.computeIfAbsent(fluidPocket.id(), id -> new LongOpenHashSet()).addAll(slices.keySet());
+        index(fluidPocket);
+        this.version++;
+
+        for (Long2ObjectMap.Entry<ChunkFluidPockets.Slice> entry : slices.long2ObjectEntrySet()) {
+            var payload = new AddFluidPocketPayload(world.getRegistryKey(), entry.getValue());
+            for (ServerPlayerEntity player : PlayerLookup.tracking(world, new ChunkPos(entry.getLongKey()))) {
+                ServerPlayNetworking.send(player, payload);
+            }
+        }
     }
 
-    public boolean removePosition(BlockPos pos) {
-        boolean changed = false;
+    /**
+     * Commits the pocket slices saved on a chunk that has just been loaded to the index, all in one go.
+     */
+    public void onChunkLoad(WorldChunk chunk) {
+        if (this.legacyPockets != null) {
+            migrateLegacyChunk(chunk);
+        }
+
+        ChunkFluidPockets pockets = chunk.getAttached(AttachmentTypeInit.FLUID_POCKETS_ATTACHMENT);
+        if (pockets == null)
+            return;
+
+        this.version++;
+
+        long chunkPos = chunk.getPos().toLong();
+        List<FluidPocket> chunkPockets = this.chunkIndex.get(chunkPos);
+        if (chunkPockets == null) {
+            chunkPockets = new ArrayList<>(pockets.slices().size());
+            this.chunkIndex.put(chunkPos, chunkPockets);
+        }
 
-        for (FluidPocket fluidPocket : this.fluidPockets) {
+        for (ChunkFluidPockets.Slice slice : pockets.slices()) {
+            FluidPocket fluidPocket = this.fluidPockets.get(slice.id());
+            if (fluidPocket == null) {
+                fluidPocket = new FluidPocket(slice.id(), slice.fluidState(), List.of());
+                this.fluidPockets.put(slice.id(), fluidPocket);
+            }
+
+            trackPocketChunks(slice);
+
+            long lastSection = Long.MAX_VALUE;
+            for (long pos : slice.positions()) {
+                fluidPocket.addPosition(pos);
+
+                long section = ChunkSectionPos.asLong(
+                        ChunkSectionPos.getSectionCoord(BlockPos.unpackLongX(pos)),
+                        ChunkSectionPos.getSectionCoord(BlockPos.unpackLongY(pos)),
+                        ChunkSectionPos.getSectionCoord(BlockPos.unpackLongZ(pos)));
+                if (section != lastSection) {
+                    indexSection(section, fluidPocket);
+                    lastSection = section;
+                }
+            }
+
+            if (!chunkPockets.contains(fluidPocket)) {
+                chunkPockets.add(fluidPocket);
+            }
+        }
+    }
+
+    private void trackPocketChunks(ChunkFluidPockets.Slice slice) {
+        if (slice.pocketChunks().length == 0) {
+            this.pocketsWithUnknownChunks.add(slice.id());
+            return;
+        }
+
+        LongSet chunks = this.pocketChunks.get(slice.id());
+        if (chunks == null) {
+            chunks = new LongOpenHashSet(slice.pocketChunks().length);
+            this.pocketChunks.put(slice.id(), chunks);
+        }
+
+        for (long chunk : slice.pocketChunks()) {
+            chunks.add(chunk);
+        }
+    }
+
+    /**
+     * Drops the positions of a chunk that is being unloaded from the index. They stay saved on the chunk.
+     */
+    public void onChunkUnload(WorldChunk chunk) {
+        List<FluidPocket> pockets = this.chunkIndex.remove(chunk.getPos().toLong());
+        if (pockets == null)
+            return;
+
+        this.version++;
+
+        for (FluidPocket fluidPocket : pockets) {
+            LongIterator iterator = fluidPocket.removeChunk(chunk.getPos()).iterator();
+            while (iterator.hasNext()) {
+                removeFromIndex(this.sectionIndex, iterator.nextLong(), fluidPocket);
+            }
+
+            if (fluidPocket.isEmpty()) {
+                drop(fluidPocket);
+            }
+        }
+    }
+
+    public boolean removePosition(ServerWorld world, BlockPos pos) {
+        List<FluidPocket> pockets = this.sectionIndex.get(ChunkSectionPos.toLong(pos));
+        if (pockets == null)
+            return false;
+
+        List<FluidPocket> changedPockets = new ArrayList<>();
+        for (FluidPocket fluidPocket : pockets) {
             if (fluidPocket.removeIf(pos)) {
-                changed = true;
+                changedPockets.add(fluidPocket);
             }
         }
 
-        changed = changed || this.fluidPockets.removeIf(FluidPocket::isEmpty);
+        if (changedPockets.isEmpty())
+            return false;
+
+        this.version++;
 
-        if (changed)
-            markDirty();
+        WorldChunk chunk = world.getWorldChunk(pos);
+        ChunkFluidPockets chunkPockets = chunk.getAttachedOrElse(AttachmentTypeInit.FLUID_POCKETS_ATTACHMENT, ChunkFluidPockets.EMPTY);
+        long packedPos = pos.asLong();
+        long section = ChunkSectionPos.toLong(pos);
+        long chunkPos = chunk.getPos().toLong();
+        for (FluidPocket fluidPocket : changedPockets) {
+            chunkPockets = chunkPockets.withoutPosition(fluidPocket.id(), packedPos);
 
-        return changed;
+            if (!fluidPocket.getSections().contains(section)) {
+                removeFromIndex(this.sectionIndex, section, fluidPocket);
+            }
+
+            if (!fluidPocket.getChunks().contains(chunkPos)) {
+                removeFromIndex(this.chunkIndex, chunkPos, fluidPocket);
+            }
+
+            CustomPayload payload;
+            if (fluidPocket.isEmpty() && isGone(world, fluidPocket)) {
+                payload = new RemoveFluidPocketPayload(world.getRegistryKey(), fluidPocket.id());
+            } else {
+                payload = new ModifyFluidPocketPayload(
+                        ModifyFluidPocketPayload.Operation.REMOVE_POSITION,
+                        world.getRegistryKey(),
+                        fluidPocket.id(),
+                        pos.toImmutable());
+            }
+
+            sendToTracking(world, chunk.getPos(), payload);
+
+            if (fluidPocket.isEmpty()) {
+                drop(fluidPocket);
+            }
+        }
+
+        if (chunkPockets.isEmpty()) {
+            chunk.removeAttached(AttachmentTypeInit.FLUID_POCKETS_ATTACHMENT);
+        } else {
+            chunk.setAttached(AttachmentTypeInit.FLUID_POCKETS_ATTACHMENT, chunkPockets);
+        }
+
+        return true;
     }
 
     public List<FluidPocket> existsBelow(BlockPos pos) {
-        for (FluidPocket fluidPocket : this.fluidPockets) {
-            if(fluidPocket.fluidPositions.stream()
-                    .anyMatch(pos1 -> pos1.getX() == pos.getX() && pos1.getY() <= pos.getY() && pos1.getZ() == pos.getZ()))
-                return List.of(fluidPocket);
+        return getPocketsInColumn(pos.getX(), pos.getZ(), pos.getY());
+    }
+
+    /**
+     * Finds the pockets with positions in a column of blocks. Only the pockets in the chunk of the column are looked
+     * at, and only within their bounds, so this doesn't walk down the column section by section.
+     *
+     * @param x    The x coordinate of the column.
+     * @param z    The z coordinate of the column.
+     * @param maxY The highest y coordinate to look at.
+     * @return The pockets with positions in the column at or below {@code maxY}.
+     */
+    public List<FluidPocket> getPocketsInColumn(int x, int z, int maxY) {
+        List<FluidPocket> chunkPockets = this.chunkIndex.get(ChunkPos.toLong(
+                ChunkSectionPos.getSectionCoord(x),
+                ChunkSectionPos.getSectionCoord(z)));
+        if (chunkPockets == null)
+            return List.of();
+
+        List<FluidPocket> pockets = new ArrayList<>();
+        for (FluidPocket fluidPocket : chunkPockets) {
+            if (x < fluidPocket.minX() || x > fluidPocket.maxX() || z < fluidPocket.minZ() || z > fluidPocket.maxZ())
+                continue;
+
+            if (fluidPocket.containsAnyInColumn(x, z, fluidPocket.minY(), maxY)) {
+                pockets.add(fluidPocket);
+            }
+        }
+
+        return pockets;
+    }
+
+    /**
+     * Finds the pocket a position is in, only looking at the pockets in the section of the position.
+     *
+     * @param pos The position to look up.
+     * @return The pocket, or {@code null} if the position isn't in one.
+     */
+    public @Nullable FluidPocket getPocketAt(BlockPos pos) {
+        List<FluidPocket> pockets = this.sectionIndex.get(ChunkSectionPos.toLong(pos));
+        if (pockets == null)
+            return null;
+
+        long packedPos = pos.asLong();
+        for (FluidPocket fluidPocket : pockets) {
+            if (fluidPocket.containsPosition(packedPos))
+                return fluidPocket;
         }
 
-        return List.of();
+        return null;
     }
 
-    public static SyncFluidPocketsPayload createSyncPacket(ServerWorld world) {
-        return new SyncFluidPocketsPayload(getServerState(world).fluidPockets);
+    /**
+     * @return A number that changes whenever the pockets in the index change, so that query results can be cached
+     * until then.
+     */
+    public int getVersion() {
+        return this.version;
     }
 
-    public static void sync(ServerWorld world) {
-        List<ServerPlayerEntity> players = world.getPlayers();
-        if(!players.isEmpty()) {
-            SyncFluidPocketsPayload payload = WorldFluidPocketsState.createSyncPacket(world);
-            players.forEach(player -> ServerPlayNetworking.send(player, payload));
+    /**
+     * Sends the pocket slices saved on a chunk to a player that has just started tracking it. Only the positions
+     * within that chunk are sent, so a pocket spanning many chunks still reaches the player once in total.
+     *
+     * @param world  The world the chunk is in.
+     * @param player The player the chunk was sent to.
+     * @param chunk  The chunk.
+     */
+    public static void sendChunkPockets(ServerWorld world, ServerPlayerEntity player, WorldChunk chunk) {
+        ChunkFluidPockets pockets = chunk.getAttached(AttachmentTypeInit.FLUID_POCKETS_ATTACHMENT);
+        if (pockets == null)
+            return;
+
+        for (ChunkFluidPockets.Slice slice : pockets.slices()) {
+            ServerPlayNetworking.send(player, new AddFluidPocketPayload(world.getRegistryKey(), slice));
+        }
+    }
+
+    /**
+     * Whether a pocket with no positions left in loaded chunks has none left anywhere. That is only known once every
+     * chunk it was ever stored in is loaded, as those have all had their slices committed to the index.
+     */
+    private boolean isGone(ServerWorld world, FluidPocket fluidPocket) {
+        if (this.pocketsWithUnknownChunks.contains(fluidPocket.id()))
+            return false;
+
+        LongSet chunks = this.pocketChunks.get(fluidPocket.id());
+        if (chunks == null)
+            return false;
+
+        LongIterator iterator = chunks.iterator();
+        while (iterator.hasNext()) {
+            long chunk = iterator.nextLong();
+            if (!world.getChunkManager().isChunkLoaded(ChunkPos.getPackedX(chunk), ChunkPos.getPackedZ(chunk)))
+                return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Forgets a pocket that has no positions left in loaded chunks. Any slices it has in unloaded chunks bring it
+     * back when those chunks load.
+     */
+    private void drop(FluidPocket fluidPocket) {
+        this.fluidPockets.remove(fluidPocket.id());
+        this.pocketChunks.remove(fluidPocket.id());
+        this.pocketsWithUnknownChunks.remove(fluidPocket.id());
+        unindex(fluidPocket);
+    }
+
+    // Clients only hold the slices of the chunks they track, so only those players need to hear about a position
+    private static void sendToTracking(ServerWorld world, ChunkPos chunkPos, CustomPayload payload) {
+        for (ServerPlayerEntity player : PlayerLookup.tracking(world, chunkPos)) {
+            ServerPlayNetworking.send(player, payload);
         }
     }
 
     public boolean isPositionInPocket(BlockPos pos) {
-        return this.fluidPockets.stream().anyMatch(fluidPocket -> fluidPocket.fluidPositions().contains(pos));
+        return getPocketAt(pos) != null;
+    }
+
+    private void index(FluidPocket fluidPocket) {
+        LongIterator chunkIterator = fluidPocket.getChunks().iterator();
+        while (chunkIterator.hasNext()) {
+            long chunk = chunkIterator.nextLong();
+            List<FluidPocket> pockets = this.chunkIndex.get(chunk);
+            if (pockets == null) {
+                pockets = new ArrayList<>();
+                this.chunkIndex.put(chunk, pockets);
+            }
+
+            pockets.add(fluidPocket);
+        }
+
+        LongIterator iterator = fluidPocket.getSections().iterator();
+        while (iterator.hasNext()) {
+            indexSection(iterator.nextLong(), fluidPocket);
+        }
+    }
+
+    private void indexSection(long section, FluidPocket fluidPocket) {
+        List<FluidPocket> pockets = this.sectionIndex.get(section);
+        if (pockets == null) {
+            pockets = new ArrayList<>();
+            this.sectionIndex.put(section, pockets);
+        } else if (pockets.contains(fluidPocket)) {
+            return;
+        }
+
+        pockets.add(fluidPocket);
+    }
+
+    private void unindex(FluidPocket fluidPocket) {
+        LongIterator chunkIterator = fluidPocket.getChunks().iterator();
+        while (chunkIterator.hasNext()) {
+            removeFromIndex(this.chunkIndex, chunkIterator.nextLong(), fluidPocket);
+        }
+
+        LongIterator iterator = fluidPocket.getSections().iterator();
+        while (iterator.hasNext()) {
+            removeFromIndex(this.sectionIndex, iterator.nextLong(), fluidPocket);
+        }
+    }
+
+    private static void removeFromIndex(Long2ObjectMap<List<FluidPocket>> index, long key, FluidPocket fluidPocket) {
+        List<FluidPocket> pockets = index.get(key);
+        if (pockets != null && pockets.remove(fluidPocket) && pockets.isEmpty()) {
+            index.remove(key);
+        }
     }
 
     public static class FluidPocket {
+        private final UUID id;
         private final FluidState fluidState;
-        private final List<BlockPos> fluidPositions = new ArrayList<>();
+        private final BlockPosLongSet fluidPositions = new BlockPosLongSet();
+        // How many positions the pocket has in each section and chunk, so that they can be dropped once the last goes
+        private final Long2IntOpenHashMap sectionCounts = new Long2IntOpenHashMap();
+        private final Long2IntOpenHashMap chunkCounts = new Long2IntOpenHashMap();
         private int minX, minY, minZ, maxX, maxY, maxZ;
 
-        public FluidPocket(FluidState fluidState, Collection<BlockPos> fluidPositions) {
+        public FluidPocket(UUID id, FluidState fluidState, Collection<BlockPos> fluidPositions) {
+            this.id = id;
             this.fluidState = fluidState;
-            this.fluidPositions.addAll(fluidPositions);
+            for (BlockPos pos : fluidPositions) {
+                if (this.fluidPositions.add(pos)) {
+                    this.sectionCounts.addTo(ChunkSectionPos.toLong(pos), 1);
+                    this.chunkCounts.addTo(ChunkPos.toLong(pos), 1);
+                }
+            }
 
             updateMinMax();
         }
 
+        public FluidPocket(FluidState fluidState, Collection<BlockPos> fluidPositions) {
+            this(UUID.randomUUID(), fluidState, fluidPositions);
+        }
+
+        public UUID id() {
+            return this.id;
+        }
+
         public FluidState fluidState() {
             return this.fluidState;
         }
 
-        public List<BlockPos> fluidPositions() {
+        public Set<BlockPos> fluidPositions() {
             return this.fluidPositions;
         }
 
+        public LongSet getPositions() {
+            return this.fluidPositions.getPositions();
+        }
+
+        public boolean containsPosition(long pos) {
+            return this.fluidPositions.contains(pos);
+        }
+
+        public boolean containsAnyInColumn(int x, int z, int minY, int maxY) {
+            for (int y = Math.min(maxY, this.maxY); y >= Math.max(minY, this.minY); y--) {
+                if (this.fluidPositions.contains(BlockPos.asLong(x, y, z)))
+                    return true;
+            }
+
+            return false;
+        }
+
+        /**
+         * @return The packed {@link ChunkSectionPos}s of every section this pocket has positions in.
+         */
+        public LongSet getSections() {
+            return this.sectionCounts.keySet();
+        }
+
+        /**
+         * @return The packed {@link ChunkPos}s of every chunk this pocket has positions in.
+         */
+        public LongSet getChunks() {
+            return this.chunkCounts.keySet();
+        }
+
         public int minX() {
             return this.minX;
         }
@@ -156,28 +616,97 @@ public class WorldFluidPocketsState extends PersistentState {
         }
 
         public static final Codec<FluidPocket> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Uuids.CODEC.optionalFieldOf("Id").forGetter(pocket -> Optional.of(pocket.id())),
                 FluidState.CODEC.fieldOf("FluidState").forGetter(FluidPocket::fluidState),
-                BlockPos.CODEC.listOf().fieldOf("FluidPositions").forGetter(FluidPocket::fluidPositions)
-        ).apply(instance, FluidPocket::new));
+                BlockPos.CODEC.listOf().fieldOf("FluidPositions").forGetter(pocket -> List.copyOf(pocket.fluidPositions()))
+        ).apply(instance, (id, fluidState, fluidPositions) ->
+                new FluidPocket(id.orElseGet(UUID::randomUUID), fluidState, fluidPositions)));
 
         public static final PacketCodec<RegistryByteBuf, FluidPocket> PACKET_CODEC = PacketCodec.tuple(
+                Uuids.PACKET_CODEC, FluidPocket::id,
                 PacketCodecs.registryCodec(FluidState.CODEC), FluidPocket::fluidState,
-                PacketCodecs.collection(ArrayList::new, BlockPos.PACKET_CODEC), FluidPocket::fluidPositions,
+                ExtraPacketCodecs.BLOCK_POS_SET_PACKET_CODEC, FluidPocket::fluidPositions,
                 FluidPocket::new);
 
         public boolean isEmpty() {
             return this.fluidPositions.isEmpty() || this.fluidState.isEmpty();
         }
 
+        public void addPosition(BlockPos pos) {
+            addPosition(pos.asLong());
+        }
+
+        public void addPosition(long pos) {
+            if (this.fluidPositions.getPositions().add(pos)) {
+                int x = BlockPos.unpackLongX(pos);
+                int y = BlockPos.unpackLongY(pos);
+                int z = BlockPos.unpackLongZ(pos);
+                int chunkX = ChunkSectionPos.getSectionCoord(x);
+                int chunkZ = ChunkSectionPos.getSectionCoord(z);
+                this.sectionCounts.addTo(ChunkSectionPos.asLong(chunkX, ChunkSectionPos.getSectionCoord(y), chunkZ), 1);
+                this.chunkCounts.addTo(ChunkPos.toLong(chunkX, chunkZ), 1);
+                this.minX = Math.min(this.minX, x);
+                this.minY = Math.min(this.minY, y);
+                this.minZ = Math.min(this.minZ, z);
+                this.maxX = Math.max(this.maxX, x);
+                this.maxY = Math.max(this.maxY, y);
+                this.maxZ = Math.max(this.maxZ, z);
+            }
+        }
+
+        /**
+         * Removes every position within the given chunk.
+         *
+         * @return The packed {@link ChunkSectionPos}s of the sections in that chunk this pocket had positions in.
+         */
+        public LongSet removeChunk(ChunkPos chunkPos) {
+            LongIterator iterator = this.fluidPositions.getPositions().iterator();
+            while (iterator.hasNext()) {
+                long pos = iterator.nextLong();
+                if (ChunkSectionPos.getSectionCoord(BlockPos.unpackLongX(pos)) == chunkPos.x &&
+                        ChunkSectionPos.getSectionCoord(BlockPos.unpackLongZ(pos)) == chunkPos.z) {
+                    iterator.remove();
+                }
+            }
+
+            LongSet removedSections = new LongOpenHashSet();
+            LongIterator sectionIterator = this.sectionCounts.keySet().iterator();
+            while (sectionIterator.hasNext()) {
+                long section = sectionIterator.nextLong();
+                if (ChunkSectionPos.unpackX(section) == chunkPos.x && ChunkSectionPos.unpackZ(section) == chunkPos.z) {
+                    sectionIterator.remove();
+                    removedSections.add(section);
+                }
+            }
+
+            this.chunkCounts.remove(chunkPos.toLong());
+            updateMinMax();
+            return removedSections;
+        }
+
         public boolean removeIf(BlockPos pos) {
-            if(this.fluidPositions.removeIf(pos1 -> Objects.equals(pos1, pos))) {
-                updateMinMax();
+            if(this.fluidPositions.remove(pos)) {
+                decrement(this.sectionCounts, ChunkSectionPos.toLong(pos));
+                decrement(this.chunkCounts, ChunkPos.toLong(pos));
+
+                if (pos.getX() == this.minX || pos.getX() == this.maxX ||
+                        pos.getY() == this.minY || pos.getY() == this.maxY ||
+                        pos.getZ() == this.minZ || pos.getZ() == this.maxZ) {
+                    updateMinMax();
+                }
+
                 return true;
             }
 
             return false;
         }
 
+        private static void decrement(Long2IntOpenHashMap counts, long key) {
+            if (counts.addTo(key, -1) <= 1) {
+                counts.remove(key);
+            }
+        }
+
         private void updateMinMax() {
             this.minX = Integer.MAX_VALUE;
             this.minY = Integer.MAX_VALUE;
@@ -186,10 +715,12 @@ public class WorldFluidPocketsState extends PersistentState {
             this.maxY = Integer.MIN_VALUE;
             this.maxZ = Integer.MIN_VALUE;
 
-            for (BlockPos pos : this.fluidPositions) {
-                int x = pos.getX();
-                int y = pos.getY();
-                int z = pos.getZ();
+            LongIterator iterator = this.fluidPositions.getPositions().iterator();
+            while (iterator.hasNext()) {
+                long pos = iterator.nextLong();
+                int x = BlockPos.unpackLongX(pos);
+                int y = BlockPos.unpackLongY(pos);
+                int z = BlockPos.unpackLongZ(pos);
 
                 this.minX = Math.min(this.minX, x);
                 this.minY = Math.min(this.minY, y);
@@ -206,4 +737,67 @@ public class WorldFluidPocketsState extends PersistentState {
                     pos.getZ() >= this.minZ - distance && pos.getZ() <= this.maxZ + distance;
         }
     }
+
+    /**
+     * The pockets as older versions saved them, all in one world level state. Held split by chunk while the chunks
+     * are migrated, and saved back with only the chunks that have not been migrated yet.
+     */
+    private static class LegacyFluidPockets extends PersistentState {
+        private static final Codec<LegacyFluidPockets> CODEC = FluidPocket.CODEC.listOf()
+                .fieldOf("FluidPockets")
+                .xmap(LegacyFluidPockets::new, LegacyFluidPockets::getRemainingPockets)
+                .codec();
+
+        private final Long2ObjectOpenHashMap<List<ChunkFluidPockets.Slice>> slicesByChunk = new Long2ObjectOpenHashMap<>();
+
+        private LegacyFluidPockets() {
+            this(List.of());
+        }
+
+        private LegacyFluidPockets(List<FluidPocket> fluidPockets) {
+            for (FluidPocket fluidPocket : fluidPockets) {
+                for (Long2ObjectMap.Entry<ChunkFluidPockets.Slice> entry : splitIntoSlices(fluidPocket).long2ObjectEntrySet()) {
+                    List<ChunkFluidPockets.Slice> slices = this.slicesByChunk.get(entry.getLongKey());
+                    if (slices == null) {
+                        slices = new ArrayList<>();
+                        this.slicesByChunk.put(entry.getLongKey(), slices);
+                    }
+
+                    slices.add(entry.getValue());
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return this.slicesByChunk.isEmpty();
+        }
+
+        private @Nullable List<ChunkFluidPockets.Slice> takeSlices(long chunkPos) {
+            List<ChunkFluidPockets.Slice> slices = this.slicesByChunk.remove(chunkPos);
+            if (slices != null) {
+                markDirty();
+            }
+
+            return slices;
+        }
+
+        private List<FluidPocket> getRemainingPockets() {
+            Map<UUID, FluidPocket> pockets = new LinkedHashMap<>();
+            for (List<ChunkFluidPockets.Slice> slices : this.slicesByChunk.values()) {
+                for (ChunkFluidPockets.Slice slice : slices) {
+                    FluidPocket fluidPocket = pockets.get(slice.id());
+                    if (fluidPocket == null) {
+                        fluidPocket = new FluidPocket(slice.id(), slice.fluidState(), List.of());
+                        pockets.put(slice.id(), fluidPocket);
+                    }
+
+                    for (long pos : slice.positions()) {
+                        fluidPocket.addPosition(pos);
+                    }
+                }
+            }
+
+            return new ArrayList<>(pockets.values());
+        }
+    }
 }
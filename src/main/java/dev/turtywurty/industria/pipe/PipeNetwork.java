@@ -5,21 +5,28 @@ import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import dev.turtywurty.industria.init.PipeNetworkTypeInit;
 import dev.turtywurty.industria.multiblock.TransferType;
+import dev.turtywurty.industria.util.BlockPosLongSet;
 import dev.turtywurty.industria.util.ExtraCodecs;
 import dev.turtywurty.industria.util.ExtraPacketCodecs;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.Uuids;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
@@ -70,11 +77,15 @@ public abstract class PipeNetwork<S> {
     }
 
     protected UUID id;
-    protected final Set<BlockPos> pipes = ConcurrentHashMap.newKeySet();
-    protected final Set<BlockPos> connectedBlocks = ConcurrentHashMap.newKeySet();
+    protected final BlockPosLongSet pipes = new BlockPosLongSet();
+    protected final BlockPosLongSet connectedBlocks = new BlockPosLongSet();
     protected final TransferType<S, ?, ?> transferType;
     public final S storage;
 
+    protected final List<EndpointLink<S>> endpointLinks = new ArrayList<>();
+    protected final Long2ObjectOpenHashMap<TransferType.CachedLookup<S>> endpointCaches = new Long2ObjectOpenHashMap<>();
+    protected boolean endpointLinksDirty = true;
+
     public PipeNetwork(UUID id, TransferType<S, ?, ?> transferType) {
         this.id = id;
         this.transferType = transferType;
@@ -95,10 +106,12 @@ public abstract class PipeNetwork<S> {
 
     public void addPipe(BlockPos pos) {
         this.pipes.add(pos);
+        this.endpointLinksDirty = true;
     }
 
     public void removePipe(BlockPos pos) {
         this.pipes.remove(pos);
+        this.endpointLinksDirty = true;
     }
 
     public void movePipesFrom(PipeNetwork<S> oldNetwork, Set<BlockPos> pipesToInherit) {
@@ -120,7 +133,7 @@ public abstract class PipeNetwork<S> {
     }
 
     protected void onConnectedBlocksChanged(World world) {
-        // NO-OP
+        this.endpointLinksDirty = true;
     }
 
     public void clearConnectedBlocks(World world) {
@@ -180,16 +193,76 @@ public abstract class PipeNetwork<S> {
     }
 
     public void tick(World world) {
+        if (!(world instanceof ServerWorld serverWorld))
+            return;
+
+        for (EndpointLink<S> link : getEndpointLinks(serverWorld)) {
+            this.transferType.pushTo(getStorage(link.pipePos()), link.find());
+        }
+    }
+
+    /**
+     * Gets every (pipe, connected block, side) pair of this network, rebuilding the list if the pipes or connected
+     * blocks have changed since it was last built.
+     *
+     * @param world The world this network is in.
+     * @return The links between this network's pipes and the blocks connected to them.
+     */
+    public List<EndpointLink<S>> getEndpointLinks(ServerWorld world) {
+        if (this.endpointLinksDirty) {
+            rebuildEndpointLinks(world);
+        }
+
+        return this.endpointLinks;
+    }
+
+    protected void rebuildEndpointLinks(ServerWorld world) {
+        this.endpointLinks.clear();
+        this.endpointLinksDirty = false;
+
+        LongSet connectedPositions = this.connectedBlocks.getPositions();
+        for (LongIterator iterator = this.endpointCaches.keySet().iterator(); iterator.hasNext(); ) {
+            if (!connectedPositions.contains(iterator.nextLong())) {
+                iterator.remove();
+            }
+        }
+
         for (BlockPos connectedPos : this.connectedBlocks) {
             for (Direction direction : Direction.values()) {
                 BlockPos pipePos = connectedPos.offset(direction);
-                if (this.pipes.contains(pipePos)) {
-                    this.transferType.pushTo(world, pipePos, connectedPos, direction);
+                if (!this.pipes.contains(pipePos))
+                    continue;
+
+                TransferType.CachedLookup<S> lookup = this.endpointCaches.get(connectedPos.asLong());
+                if (lookup == null) {
+                    lookup = this.transferType.createCachedLookup(world, connectedPos);
+                    this.endpointCaches.put(connectedPos.asLong(), lookup);
                 }
+
+                this.endpointLinks.add(new EndpointLink<>(pipePos, connectedPos, direction, lookup));
             }
         }
     }
 
+    /**
+     * A connection between a pipe and a block next to it that has storage for this network's transfer type.
+     *
+     * @param pipePos     The position of the pipe.
+     * @param endpointPos The position of the connected block.
+     * @param side        The direction from the connected block to the pipe.
+     * @param lookup      The cached lookup of the connected block's storage.
+     */
+    public record EndpointLink<S>(BlockPos pipePos, BlockPos endpointPos, Direction side,
+                                  TransferType.CachedLookup<S> lookup) {
+        public @Nullable S find() {
+            return this.lookup.find(this.side);
+        }
+
+        public @Nullable S find(Direction side) {
+            return this.lookup.find(side);
+        }
+    }
+
     @FunctionalInterface
     public interface Factory<S, N extends PipeNetwork<S>> {
         N create(UUID id);
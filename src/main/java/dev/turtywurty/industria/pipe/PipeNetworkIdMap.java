@@ -0,0 +1,165 @@
+package dev.turtywurty.industria.pipe;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Maps pipe positions to the {@link UUID} of the network they belong to.
+ * <p>
+ * Positions are stored as {@link BlockPos#asLong()} keys and every network {@link UUID} is interned to a small int
+ * index, so each pipe costs one long and one int instead of a boxed {@link BlockPos} and a shared {@link UUID}
+ * reference in a hash map entry. Indices are reference counted and reused once the last pipe of a network is removed.
+ * <p>
+ * This is not thread-safe and is only meant to be used from the server (or client) thread.
+ */
+public class PipeNetworkIdMap extends AbstractMap<BlockPos, UUID> {
+    private static final int NO_INDEX = -1;
+
+    private final Long2IntOpenHashMap pipeToIndex = new Long2IntOpenHashMap();
+    private final Object2IntOpenHashMap<UUID> idToIndex = new Object2IntOpenHashMap<>();
+    private final List<UUID> indexToId = new ArrayList<>();
+    private final IntArrayList referenceCounts = new IntArrayList();
+    private final IntArrayList freeIndices = new IntArrayList();
+
+    public PipeNetworkIdMap() {
+        this.pipeToIndex.defaultReturnValue(NO_INDEX);
+        this.idToIndex.defaultReturnValue(NO_INDEX);
+    }
+
+    public @Nullable UUID get(long pos) {
+        int index = this.pipeToIndex.get(pos);
+        return index == NO_INDEX ? null : this.indexToId.get(index);
+    }
+
+    public boolean containsKey(long pos) {
+        return this.pipeToIndex.containsKey(pos);
+    }
+
+    public @Nullable UUID put(long pos, UUID id) {
+        int index = acquire(id);
+        int previous = this.pipeToIndex.put(pos, index);
+        return release(previous);
+    }
+
+    public @Nullable UUID remove(long pos) {
+        return release(this.pipeToIndex.remove(pos));
+    }
+
+    @Override
+    public @Nullable UUID get(Object key) {
+        return key instanceof BlockPos pos ? get(pos.asLong()) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof BlockPos pos && containsKey(pos.asLong());
+    }
+
+    @Override
+    public @Nullable UUID put(BlockPos key, UUID value) {
+        return put(key.asLong(), value);
+    }
+
+    @Override
+    public @Nullable UUID remove(Object key) {
+        return key instanceof BlockPos pos ? remove(pos.asLong()) : null;
+    }
+
+    @Override
+    public int size() {
+        return this.pipeToIndex.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.pipeToIndex.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.pipeToIndex.clear();
+        this.idToIndex.clear();
+        this.indexToId.clear();
+        this.referenceCounts.clear();
+        this.freeIndices.clear();
+    }
+
+    @Override
+    public @NotNull Set<Entry<BlockPos, UUID>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public @NotNull Iterator<Entry<BlockPos, UUID>> iterator() {
+                ObjectIterator<Long2IntMap.Entry> iterator = PipeNetworkIdMap.this.pipeToIndex.long2IntEntrySet().fastIterator();
+                return new Iterator<>() {
+                    private int lastIndex = NO_INDEX;
+
+                    @Override
+                    public boolean hasNext() {
+                        return iterator.hasNext();
+                    }
+
+                    @Override
+                    public Entry<BlockPos, UUID> next() {
+                        Long2IntMap.Entry entry = iterator.next();
+                        this.lastIndex = entry.getIntValue();
+                        return new SimpleImmutableEntry<>(BlockPos.fromLong(entry.getLongKey()), PipeNetworkIdMap.this.indexToId.get(this.lastIndex));
+                    }
+
+                    @Override
+                    public void remove() {
+                        iterator.remove();
+                        release(this.lastIndex);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return PipeNetworkIdMap.this.pipeToIndex.size();
+            }
+        };
+    }
+
+    private int acquire(UUID id) {
+        int index = this.idToIndex.getInt(id);
+        if (index == NO_INDEX) {
+            if (this.freeIndices.isEmpty()) {
+                index = this.indexToId.size();
+                this.indexToId.add(id);
+                this.referenceCounts.add(0);
+            } else {
+                index = this.freeIndices.popInt();
+                this.indexToId.set(index, id);
+            }
+
+            this.idToIndex.put(id, index);
+        }
+
+        this.referenceCounts.set(index, this.referenceCounts.getInt(index) + 1);
+        return index;
+    }
+
+    private @Nullable UUID release(int index) {
+        if (index == NO_INDEX)
+            return null;
+
+        UUID id = this.indexToId.get(index);
+        int count = this.referenceCounts.getInt(index) - 1;
+        this.referenceCounts.set(index, count);
+        if (count <= 0) {
+            this.idToIndex.removeInt(id);
+            this.indexToId.set(index, null);
+            this.freeIndices.add(index);
+        }
+
+        return id;
+    }
+}
@@ -53,11 +53,11 @@ public abstract class PipeNetworkManager<S, N extends PipeNetwork<S>> {
     protected static <S, N extends PipeNetwork<S>, M extends PipeNetworkManager<S, N>> MapCodec<M> createCodec(Codec<N> networkCodec, Supplier<M> factory) {
         return RecordCodecBuilder.mapCodec(instance ->
                 instance.group(
-                        ExtraCodecs.setOf(networkCodec).fieldOf("networks").forGetter(PipeNetworkManager::getNetworks),
+                        ExtraCodecs.setOf(networkCodec).fieldOf("networks").forGetter(manager -> new HashSet<>(manager.getNetworks())),
                         PIPE_TO_NETWORK_ID_CODEC.fieldOf("pipeToNetworkId").forGetter(PipeNetworkManager::getPipeToNetworkId)
                 ).apply(instance, (networks, pipeToNetworkId) -> {
                     var manager = factory.get();
-                    manager.networks.addAll(networks);
+                    networks.forEach(manager::addNetwork);
                     manager.pipeToNetworkId.putAll(pipeToNetworkId);
                     return manager;
                 }));
@@ -65,11 +65,11 @@ public abstract class PipeNetworkManager<S, N extends PipeNetwork<S>> {
 
     protected static <S, N extends PipeNetwork<S>, M extends PipeNetworkManager<S, N>> PacketCodec<RegistryByteBuf, M> createPacketCodec(PacketCodec<RegistryByteBuf, N> networkCodec, Supplier<M> factory) {
         return PacketCodec.tuple(
-                ExtraPacketCodecs.setOf(networkCodec), PipeNetworkManager::getNetworks,
+                ExtraPacketCodecs.setOf(networkCodec), manager -> new HashSet<>(manager.getNetworks()),
                 PIPE_TO_NETWORK_ID_PACKET_CODEC, PipeNetworkManager::getPipeToNetworkId,
                 (networks, pipeToNetworkId) -> {
                     var manager = factory.get();
-                    manager.networks.addAll(networks);
+                    networks.forEach(manager::addNetwork);
                     manager.pipeToNetworkId.putAll(pipeToNetworkId);
                     return manager;
                 });
@@ -77,8 +77,8 @@ public abstract class PipeNetworkManager<S, N extends PipeNetwork<S>> {
 
     protected final PipeNetworkManagerType<S, N> type;
     protected final TransferType<S, ?, ?> transferType;
-    protected final Set<N> networks = ConcurrentHashMap.newKeySet();
-    protected final Map<BlockPos, UUID> pipeToNetworkId = new ConcurrentHashMap<>();
+    protected final Map<UUID, N> networks = new ConcurrentHashMap<>();
+    protected final PipeNetworkIdMap pipeToNetworkId = new PipeNetworkIdMap();
 
     public PipeNetworkManager(PipeNetworkManagerType<S, N> type, TransferType<S, ?, ?> transferType) {
         this.type = type;
@@ -95,15 +95,12 @@ public abstract class PipeNetworkManager<S, N extends PipeNetwork<S>> {
         return this.transferType;
     }
 
-    public Set<N> getNetworks() {
-        return this.networks;
+    public Collection<N> getNetworks() {
+        return this.networks.values();
     }
 
     public @Nullable N getNetwork(UUID id) {
-        return this.networks.stream()
-                .filter(network -> network.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return this.networks.get(id);
     }
 
     public @Nullable UUID getNetworkId(BlockPos pos) {
@@ -116,11 +113,15 @@ public abstract class PipeNetworkManager<S, N extends PipeNetwork<S>> {
     }
 
     public void addNetwork(N network) {
-        this.networks.add(network);
+        this.networks.put(network.getId(), network);
     }
 
     public void removeNetwork(N network) {
-        this.networks.remove(network);
+        this.networks.remove(network.getId(), network);
+    }
+
+    public @Nullable N removeNetwork(UUID id) {
+        return this.networks.remove(id);
     }
 
     public void addPipe(BlockPos pos, UUID networkId) {
@@ -141,7 +142,7 @@ public abstract class PipeNetworkManager<S, N extends PipeNetwork<S>> {
     }
 
     public void tick(ServerWorld world) {
-        for (PipeNetwork<S> network : this.networks) {
+        for (PipeNetwork<S> network : this.networks.values()) {
             network.tick(world);
         }
     }
@@ -277,74 +278,99 @@ public abstract class PipeNetworkManager<S, N extends PipeNetwork<S>> {
             return;
         }
 
-        List<BlockPos> previousConnectedBlocks = new ArrayList<>(network.getConnectedBlocks());
-        updateConnectedBlocks(world, network);
-        List<BlockPos> removedConnectedBlocks = new ArrayList<>(previousConnectedBlocks);
-        removedConnectedBlocks.removeAll(network.getConnectedBlocks());
-
-        for (BlockPos connectedBlock : removedConnectedBlocks) {
-            payloads.add(new ModifyPipeNetworkPayload(
-                    ModifyPipeNetworkPayload.Operation.REMOVE_CONNECTED_BLOCK,
-                    world.getRegistryKey(),
-                    this.transferType,
-                    networkId,
-                    connectedBlock));
+        List<BlockPos> adjacentPipes = new ArrayList<>();
+        for (Direction direction : Direction.values()) {
+            BlockPos offset = pos.offset(direction);
+            if (network.getPipes().contains(offset)) {
+                adjacentPipes.add(offset);
+            }
         }
 
-        Set<BlockPos> visited = new HashSet<>();
-        List<Set<BlockPos>> connectedComponents = new ArrayList<>();
-        for (BlockPos pipe : network.getPipes()) {
-            if (visited.contains(pipe)) {
-                continue;
+        // Only the blocks around the removed pipe can have lost (or gained) their connection
+        Set<BlockPos> removedConnectedBlocks = new HashSet<>();
+        for (Direction direction : Direction.values()) {
+            BlockPos offset = pos.offset(direction);
+            if (network.getConnectedBlocks().contains(offset) && !isTouchingPipe(network, offset)) {
+                removedConnectedBlocks.add(offset);
             }
+        }
 
-            Set<BlockPos> connectedComponent = new HashSet<>();
-            floodFill(world, pipe, visited, connectedComponent);
-            if (!connectedComponent.isEmpty()) {
-                connectedComponents.add(connectedComponent);
+        Set<BlockPos> addedConnectedBlocks = new HashSet<>();
+        if (!isPipe(world, pos)) {
+            for (Direction direction : Direction.values()) {
+                if (network.getPipes().contains(pos.offset(direction)) && this.transferType.lookup(world, pos, direction) != null) {
+                    addedConnectedBlocks.add(pos);
+                    break;
+                }
             }
         }
 
-        if (connectedComponents.size() == 1) {
+        if (!removedConnectedBlocks.isEmpty()) {
+            network.removeConnectedBlocks(world, removedConnectedBlocks);
+        }
+
+        if (!addedConnectedBlocks.isEmpty()) {
+            network.addConnectedBlocks(world, addedConnectedBlocks);
+        }
+
+        addConnectedBlockPayloads(world, payloads, ModifyPipeNetworkPayload.Operation.REMOVE_CONNECTED_BLOCK, networkId, removedConnectedBlocks);
+        addConnectedBlockPayloads(world, payloads, ModifyPipeNetworkPayload.Operation.ADD_CONNECTED_BLOCK, networkId, addedConnectedBlocks);
+
+        List<Set<BlockPos>> splitComponents = findSplitComponents(network, adjacentPipes);
+        if (splitComponents.isEmpty()) {
             syncAndSave(world, payloads);
             return;
         }
 
-        payloads.add(new RemovePipeNetworkPayload(
-                world.getRegistryKey(),
-                this.transferType,
-                networkId));
-        removeNetwork(network);
-
-        int totalPipes = network.getPipes().size();
-        for (Set<BlockPos> connectedComponent : connectedComponents) {
+        // The original network keeps whatever is left, so only the split-off pipes have to move
+        int remainingPipes = network.getPipes().size();
+        for (Set<BlockPos> component : splitComponents) {
             N newNetwork = createNetwork(UUID.randomUUID());
-            newNetwork.movePipesFrom(network, connectedComponent);
-            updateConnectedBlocks(world, newNetwork);
+            newNetwork.movePipesFrom(network, component);
 
-            if (network.hasCentralStorage()) {
-                double fraction = (double) connectedComponent.size() / totalPipes;
-                List<BlockPos> adjacentPipes = new ArrayList<>();
+            Set<BlockPos> inheritedConnectedBlocks = new HashSet<>();
+            for (BlockPos pipe : component) {
                 for (Direction direction : Direction.values()) {
-                    BlockPos offset = pos.offset(direction);
-                    if (isPipe(world, offset) && containsPipe(offset)) {
-                        adjacentPipes.add(offset);
+                    BlockPos offset = pipe.offset(direction);
+                    if (network.getConnectedBlocks().contains(offset)) {
+                        inheritedConnectedBlocks.add(offset);
                     }
                 }
+            }
 
-                double newFraction = fraction / adjacentPipes.size();
-                for (BlockPos adjacentPipePos : adjacentPipes) {
-                    this.transferType.transferFraction(network.getStorage(pos),
-                            newNetwork.getStorage(adjacentPipePos),
-                            newFraction);
-                }
+            newNetwork.addConnectedBlocks(world, inheritedConnectedBlocks);
+
+            if (network.hasCentralStorage()) {
+                double fraction = (double) component.size() / remainingPipes;
+                this.transferType.transferFraction(network.getStorage(pos), newNetwork.getStorage(pos), fraction);
             }
 
-            addNetwork(newNetwork);
-            for (BlockPos pipe : connectedComponent) {
+            remainingPipes -= component.size();
+
+            for (BlockPos pipe : component) {
+                network.removePipe(pipe);
                 addPipe(pipe, newNetwork.getId());
+                payloads.add(new ModifyPipeNetworkPayload(
+                        ModifyPipeNetworkPayload.Operation.REMOVE_PIPE,
+                        world.getRegistryKey(),
+                        this.transferType,
+                        networkId,
+                        pipe));
+            }
+
+            Set<BlockPos> orphanedConnectedBlocks = new HashSet<>();
+            for (BlockPos connectedBlock : inheritedConnectedBlocks) {
+                if (!isTouchingPipe(network, connectedBlock)) {
+                    orphanedConnectedBlocks.add(connectedBlock);
+                }
+            }
+
+            if (!orphanedConnectedBlocks.isEmpty()) {
+                network.removeConnectedBlocks(world, orphanedConnectedBlocks);
+                addConnectedBlockPayloads(world, payloads, ModifyPipeNetworkPayload.Operation.REMOVE_CONNECTED_BLOCK, networkId, orphanedConnectedBlocks);
             }
 
+            addNetwork(newNetwork);
             payloads.add(new AddPipeNetworkPayload(
                     world.getRegistryKey(),
                     this.transferType,
@@ -354,6 +380,124 @@ public abstract class PipeNetworkManager<S, N extends PipeNetwork<S>> {
         syncAndSave(world, payloads);
     }
 
+    private void addConnectedBlockPayloads(ServerWorld world, List<CustomPayload> payloads, ModifyPipeNetworkPayload.Operation operation, UUID networkId, Collection<BlockPos> connectedBlocks) {
+        for (BlockPos connectedBlock : connectedBlocks) {
+            payloads.add(new ModifyPipeNetworkPayload(
+                    operation,
+                    world.getRegistryKey(),
+                    this.transferType,
+                    networkId,
+                    connectedBlock));
+        }
+    }
+
+    private static boolean isTouchingPipe(PipeNetwork<?> network, BlockPos pos) {
+        for (Direction direction : Direction.values()) {
+            if (network.getPipes().contains(pos.offset(direction)))
+                return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Finds the pipes that have been disconnected from the rest of the network after a pipe was removed.
+     * <p>
+     * A breadth-first search is started from every pipe that neighboured the removed pipe, and the searches are
+     * advanced one pipe at a time in turn. Searches that run into each other are merged (union-find over the start
+     * pipes), and a search that runs out of pipes before meeting the others has found an isolated component. This stops
+     * as soon as only one search is left, so the cost is bounded by the size of the smaller components rather than the
+     * size of the whole network.
+     *
+     * @param network    The network the pipe was removed from (the removed pipe must no longer be in it).
+     * @param startPipes The pipes of the network that were adjacent to the removed pipe.
+     * @return The components that are no longer connected to the rest of the network, or an empty list if the network
+     * is still connected.
+     */
+    protected List<Set<BlockPos>> findSplitComponents(N network, List<BlockPos> startPipes) {
+        int searchCount = startPipes.size();
+        if (searchCount <= 1)
+            return List.of();
+
+        Set<BlockPos> pipes = network.getPipes();
+        int[] parents = new int[searchCount];
+        boolean[] exhausted = new boolean[searchCount];
+        List<Queue<BlockPos>> queues = new ArrayList<>(searchCount);
+        List<Set<BlockPos>> members = new ArrayList<>(searchCount);
+        Map<BlockPos, Integer> owners = new HashMap<>();
+        for (int index = 0; index < searchCount; index++) {
+            BlockPos start = startPipes.get(index);
+            parents[index] = index;
+
+            Queue<BlockPos> queue = new ArrayDeque<>();
+            queue.add(start);
+            queues.add(queue);
+
+            Set<BlockPos> visited = new HashSet<>();
+            visited.add(start);
+            members.add(visited);
+
+            owners.put(start, index);
+        }
+
+        List<Set<BlockPos>> splitComponents = new ArrayList<>();
+        int activeSearches = searchCount;
+        while (activeSearches > 1) {
+            for (int index = 0; index < searchCount && activeSearches > 1; index++) {
+                if (parents[index] != index || exhausted[index])
+                    continue;
+
+                BlockPos current = queues.get(index).poll();
+                if (current == null) {
+                    exhausted[index] = true;
+                    splitComponents.add(members.get(index));
+                    activeSearches--;
+                    continue;
+                }
+
+                for (Direction direction : Direction.values()) {
+                    BlockPos neighbor = current.offset(direction);
+                    if (!pipes.contains(neighbor))
+                        continue;
+
+                    int root = findRoot(parents, index);
+                    Integer owner = owners.get(neighbor);
+                    if (owner == null) {
+                        owners.put(neighbor, root);
+                        members.get(root).add(neighbor);
+                        queues.get(root).add(neighbor);
+                        continue;
+                    }
+
+                    int otherRoot = findRoot(parents, owner);
+                    if (otherRoot == root)
+                        continue;
+
+                    // Merge the smaller search into the larger one
+                    int larger = members.get(root).size() >= members.get(otherRoot).size() ? root : otherRoot;
+                    int smaller = larger == root ? otherRoot : root;
+                    parents[smaller] = larger;
+                    members.get(larger).addAll(members.get(smaller));
+                    queues.get(larger).addAll(queues.get(smaller));
+                    members.set(smaller, Set.of());
+                    queues.set(smaller, new ArrayDeque<>());
+                    activeSearches--;
+                }
+            }
+        }
+
+        return splitComponents;
+    }
+
+    private static int findRoot(int[] parents, int index) {
+        while (parents[index] != index) {
+            parents[index] = parents[parents[index]];
+            index = parents[index];
+        }
+
+        return index;
+    }
+
     private static void syncAndSave(ServerWorld world, List<CustomPayload> payloads) {
         for (ServerPlayerEntity player : world.getPlayers()) {
             for (CustomPayload payload : payloads) {
@@ -401,25 +545,6 @@ public abstract class PipeNetworkManager<S, N extends PipeNetwork<S>> {
         network.addConnectedBlocks(world, newConnectedBlocks);
     }
 
-    protected void floodFill(ServerWorld world, BlockPos pos, Set<BlockPos> visited, Set<BlockPos> connectedComponent) {
-        Queue<BlockPos> queue = new LinkedList<>();
-        queue.add(pos);
-
-        while (!queue.isEmpty()) {
-            BlockPos current = queue.poll();
-            if (!visited.add(current) || !isPipe(world, current))
-                continue;
-
-            connectedComponent.add(current);
-            for (Direction direction : Direction.values()) {
-                BlockPos offset = current.offset(direction);
-                if (isPipe(world, offset) && !visited.contains(offset)) {
-                    queue.add(offset);
-                }
-            }
-        }
-    }
-
     protected boolean isPipe(ServerWorld world, BlockPos pos) {
         return world.getBlockState(pos).getBlock() instanceof PipeBlock<?, ?, ?> pipeBlock && pipeBlock.getTransferType() == this.transferType;
     }
@@ -11,9 +11,13 @@ import dev.turtywurty.industria.pipe.PipeNetwork;
 import dev.turtywurty.industria.pipe.PipeNetworkType;
 import dev.turtywurty.industria.util.ExtraCodecs;
 import dev.turtywurty.industria.util.ExtraPacketCodecs;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
@@ -37,11 +41,29 @@ public class HeatPipeNetwork extends PipeNetwork<HeatStorage> {
     public static final PacketCodec<RegistryByteBuf, Set<HeatPipeNetwork>> SET_PACKET_CODEC =
             ExtraPacketCodecs.setOf(PACKET_CODEC);
 
-    private final Map<BlockPos, Map<BlockPos, Integer>> pipeToSourceDistance = new HashMap<>();
+    public static final int UNREACHABLE = -1;
+    private static final int NO_PIPE = -1;
+
     private final Map<BlockPos, HeatStorage> pipeStorages = new HashMap<>();
 
+    private final Long2IntOpenHashMap pipeIndices = new Long2IntOpenHashMap();
+    private SimpleHeatStorage[] compiledStorages = new SimpleHeatStorage[0];
+    private int[] adjacencyOffsets = new int[1];
+    private int[] adjacency = new int[0];
+    private double[] temperatures = new double[0];
+    private double[] nextTemperatures = new double[0];
+    private int[] linkPipeIndices = new int[0];
+    private HeatStorage[] linkStorages = new HeatStorage[0];
+    private double[] linkTransfers = new double[0];
+    private List<EndpointLink<HeatStorage>> compiledLinks = List.of();
+    private int[] sourceDistances = new int[0];
+    private boolean topologyDirty = true;
+    private boolean linksDirty = true;
+    private boolean sourceDistancesDirty = true;
+
     public HeatPipeNetwork(UUID id) {
         super(id, TransferType.HEAT);
+        this.pipeIndices.defaultReturnValue(NO_PIPE);
     }
 
     @Override
@@ -57,71 +79,65 @@ public class HeatPipeNetwork extends PipeNetwork<HeatStorage> {
     @Override
     protected void onConnectedBlocksChanged(World world) {
         super.onConnectedBlocksChanged(world);
-        this.pipeToSourceDistance.clear();
+        this.sourceDistancesDirty = true;
+    }
 
-        // Go through connected blocks, get the heat storage, check if it supports extraction
-        Set<BlockPos> sources = new HashSet<>();
-        for (BlockPos connectedBlockPos : this.connectedBlocks) {
-            for (Direction direction : Direction.values()) {
-                BlockPos offset = connectedBlockPos.offset(direction);
-                if (!this.pipes.contains(offset))
-                    continue;
-
-                HeatStorage storage = this.transferType.lookup(world, connectedBlockPos, direction);
-                if (storage != null && storage.supportsExtraction()) {
-                    sources.add(connectedBlockPos);
-                    break;
-                }
-            }
+    /**
+     * Gets how many pipes away the given pipe is from the nearest connected block that heat can be extracted from.
+     * <p>
+     * The distances of every pipe are computed together with a multi-source BFS the first time they are queried, and are
+     * only recomputed after the pipes or connected blocks of this network change.
+     *
+     * @param world The world this network is in.
+     * @param pos   The position of the pipe.
+     * @return The distance in pipes (0 for pipes touching a source), or {@link #UNREACHABLE} if the position is not a
+     * pipe of this network or no source can be reached from it.
+     */
+    public int getDistanceToNearestSource(ServerWorld world, BlockPos pos) {
+        ensureCompiled(world);
+        if (this.sourceDistancesDirty) {
+            computeSourceDistances();
         }
 
-        // Go through sources, calculate distance to each pipe
-        for (BlockPos sourcePos : sources) {
-            Map<BlockPos, Integer> pipeDistances = calculateDistancesFromSource(sourcePos);
-            this.pipeToSourceDistance.put(sourcePos, pipeDistances);
-        }
+        int pipe = this.pipeIndices.get(pos.asLong());
+        return pipe == NO_PIPE ? UNREACHABLE : this.sourceDistances[pipe];
     }
 
-    private Map<BlockPos, Integer> calculateDistancesFromSource(BlockPos sourcePos) {
-        // Find adjacent pipes
-        Set<BlockPos> adjacentPipes = new HashSet<>();
-        for (Direction dir : Direction.values()) {
-            BlockPos adjacentPos = sourcePos.offset(dir);
-            if (this.pipes.contains(adjacentPos)) {
-                adjacentPipes.add(adjacentPos);
+    private void computeSourceDistances() {
+        int size = this.compiledStorages.length;
+        int[] distances = new int[size];
+        Arrays.fill(distances, UNREACHABLE);
+
+        // Every pipe touching a source starts the search at distance 0
+        int[] queue = new int[size];
+        int head = 0, tail = 0;
+        for (int link = 0; link < this.linkPipeIndices.length; link++) {
+            int pipe = this.linkPipeIndices[link];
+            if (pipe == NO_PIPE || distances[pipe] == 0)
+                continue;
+
+            EndpointLink<HeatStorage> endpointLink = this.compiledLinks.get(link);
+            HeatStorage storage = endpointLink.find();
+            if (storage != null && storage.supportsExtraction()) {
+                distances[pipe] = 0;
+                queue[tail++] = pipe;
             }
         }
 
-        if (adjacentPipes.isEmpty()) {
-            return new HashMap<>();
-        }
-
-        // BFS to compute the distances to all pipes
-        Map<BlockPos, Integer> distances = new HashMap<>();
-        Set<BlockPos> visited = new HashSet<>();
-        Queue<BlockPos> queue = new LinkedList<>();
-
-        for (BlockPos startPos : adjacentPipes) {
-            queue.add(startPos);
-            distances.put(startPos, 0);
-            visited.add(startPos);
-        }
-
-        while (!queue.isEmpty()) {
-            BlockPos current = queue.poll();
-            int currentDistance = distances.get(current);
-
-            for (Direction dir : Direction.values()) {
-                BlockPos neighbor = current.offset(dir);
-                if (this.pipes.contains(neighbor) && !visited.contains(neighbor)) {
-                    visited.add(neighbor);
-                    distances.put(neighbor, currentDistance + 1);
-                    queue.add(neighbor);
+        while (head < tail) {
+            int pipe = queue[head++];
+            int nextDistance = distances[pipe] + 1;
+            for (int edge = this.adjacencyOffsets[pipe], end = this.adjacencyOffsets[pipe + 1]; edge < end; edge++) {
+                int neighbor = this.adjacency[edge];
+                if (distances[neighbor] == UNREACHABLE) {
+                    distances[neighbor] = nextDistance;
+                    queue[tail++] = neighbor;
                 }
             }
         }
 
-        return distances;
+        this.sourceDistances = distances;
+        this.sourceDistancesDirty = false;
     }
 
     @Override
@@ -135,6 +151,15 @@ public class HeatPipeNetwork extends PipeNetwork<HeatStorage> {
         if (!this.pipeStorages.containsKey(pos)) {
             this.pipeStorages.put(pos, createStorage());
         }
+
+        this.topologyDirty = true;
+    }
+
+    @Override
+    public void removePipe(BlockPos pos) {
+        super.removePipe(pos);
+        this.pipeStorages.remove(pos);
+        this.topologyDirty = true;
     }
 
     @Override
@@ -153,6 +178,8 @@ public class HeatPipeNetwork extends PipeNetwork<HeatStorage> {
         } else {
             super.movePipesFrom(oldNetwork, pipesToInherit);
         }
+
+        this.topologyDirty = true;
     }
 
     @Override
@@ -161,56 +188,145 @@ public class HeatPipeNetwork extends PipeNetwork<HeatStorage> {
     }
 
     @Override
-    public void tick(World world) {
-        super.tick(world);
+    protected void rebuildEndpointLinks(ServerWorld world) {
+        super.rebuildEndpointLinks(world);
+        this.linksDirty = true;
+    }
 
-        Map<HeatStorage, Double> heatChanges = new HashMap<>();
+    /**
+     * Builds the dense representation of the pipes: an index per pipe, its storage and a CSR adjacency list
+     * ({@code adjacency[adjacencyOffsets[i]..adjacencyOffsets[i + 1]]} are the indices of the pipes next to pipe
+     * {@code i}).
+     */
+    private void compileTopology() {
+        int size = this.pipes.size();
+        this.pipeIndices.clear();
+
+        long[] positions = new long[size];
+        SimpleHeatStorage[] storages = new SimpleHeatStorage[size];
+        int index = 0;
+        for (LongIterator iterator = this.pipes.getPositions().iterator(); iterator.hasNext(); index++) {
+            long pos = iterator.nextLong();
+            positions[index] = pos;
+            storages[index] = (SimpleHeatStorage) getStorage(BlockPos.fromLong(pos));
+            this.pipeIndices.put(pos, index);
+        }
 
-        // Step 1: Transfer heat between adjacent pipes
-        for (BlockPos pipePos : this.pipes) {
-            HeatStorage pipeStorage = getStorage(pipePos);
-            for (Direction dir : Direction.values()) {
-                BlockPos neighborPos = pipePos.offset(dir);
-                if (this.pipes.contains(neighborPos)) {
-                    HeatStorage neighborStorage = getStorage(neighborPos);
-                    double transfer = calculateTransfer(pipeStorage, neighborStorage);
-                    heatChanges.merge(pipeStorage, -transfer, Double::sum);
-                    heatChanges.merge(neighborStorage, transfer, Double::sum);
+        int[] offsets = new int[size + 1];
+        IntArrayList neighbors = new IntArrayList(size * 2);
+        for (int pipe = 0; pipe < size; pipe++) {
+            offsets[pipe] = neighbors.size();
+            for (Direction direction : Direction.values()) {
+                int neighbor = this.pipeIndices.get(BlockPos.offset(positions[pipe], direction));
+                if (neighbor != NO_PIPE) {
+                    neighbors.add(neighbor);
                 }
             }
         }
 
+        offsets[size] = neighbors.size();
+
+        this.compiledStorages = storages;
+        this.adjacencyOffsets = offsets;
+        this.adjacency = neighbors.toIntArray();
+        this.temperatures = new double[size];
+        this.nextTemperatures = new double[size];
+        this.topologyDirty = false;
+        this.linksDirty = true;
+        this.sourceDistancesDirty = true;
+    }
+
+    private void compileLinks(List<EndpointLink<HeatStorage>> links) {
+        int count = links.size();
+        this.linkPipeIndices = new int[count];
+        this.linkStorages = new HeatStorage[count];
+        this.linkTransfers = new double[count];
+        for (int link = 0; link < count; link++) {
+            this.linkPipeIndices[link] = this.pipeIndices.get(links.get(link).pipePos().asLong());
+        }
+
+        this.compiledLinks = links;
+        this.linksDirty = false;
+        this.sourceDistancesDirty = true;
+    }
+
+    private List<EndpointLink<HeatStorage>> ensureCompiled(ServerWorld world) {
+        List<EndpointLink<HeatStorage>> links = getEndpointLinks(world);
+        if (this.topologyDirty) {
+            compileTopology();
+        }
+
+        if (this.linksDirty) {
+            compileLinks(links);
+        }
+
+        return links;
+    }
+
+    @Override
+    public void tick(World world) {
+        // Heat is exchanged with connected blocks below instead of being pushed like the other networks
+        if (!(world instanceof ServerWorld serverWorld))
+            return;
+
+        List<EndpointLink<HeatStorage>> links = ensureCompiled(serverWorld);
+
+        SimpleHeatStorage[] storages = this.compiledStorages;
+        double[] current = this.temperatures;
+        double[] next = this.nextTemperatures;
+        int size = storages.length;
+        for (int pipe = 0; pipe < size; pipe++) {
+            current[pipe] = storages[pipe].getAmount();
+        }
+
+        // Step 1: Transfer heat between adjacent pipes
+        // Every shared face is seen from both pipes, so each one moves 2 x 10% of the heat difference
+        for (int pipe = 0; pipe < size; pipe++) {
+            double temperature = current[pipe];
+            double change = 0;
+            for (int edge = this.adjacencyOffsets[pipe], end = this.adjacencyOffsets[pipe + 1]; edge < end; edge++) {
+                change += current[this.adjacency[edge]] - temperature;
+            }
+
+            next[pipe] = temperature + change / 5D;
+        }
+
         // Step 2: Transfer heat between pipes and connected blocks (sources or sinks)
-        for (BlockPos connectedPos : this.connectedBlocks) {
-            for (Direction dir : Direction.values()) {
-                BlockPos pipePos = connectedPos.offset(dir);
-                if (this.pipes.contains(pipePos)) {
-                    HeatStorage pipeStorage = getStorage(pipePos);
-                    HeatStorage connectedStorage = this.transferType.lookup(world, connectedPos, dir.getOpposite());
-                    if (connectedStorage != null && connectedStorage.supportsInsertion()) {
-                        double transfer = calculateTransfer(pipeStorage, connectedStorage);
-                        heatChanges.merge(pipeStorage, -transfer, Double::sum);
-                        heatChanges.merge(connectedStorage, transfer, Double::sum);
-                    }
-                }
+        int linkCount = this.linkPipeIndices.length;
+        for (int link = 0; link < linkCount; link++) {
+            EndpointLink<HeatStorage> endpointLink = links.get(link);
+            HeatStorage connectedStorage = endpointLink.find(endpointLink.side().getOpposite());
+            this.linkStorages[link] = connectedStorage;
+            this.linkTransfers[link] = 0;
+
+            int pipe = this.linkPipeIndices[link];
+            if (pipe != NO_PIPE && connectedStorage != null && connectedStorage.supportsInsertion()) {
+                double transfer = calculateTransfer(current[pipe], connectedStorage.getAmount());
+                next[pipe] -= transfer;
+                this.linkTransfers[link] = transfer;
             }
         }
 
         // Step 3: Apply all heat changes
-        for (Map.Entry<HeatStorage, Double> entry : heatChanges.entrySet()) {
-            HeatStorage storage = entry.getKey();
-            double change = entry.getValue();
-            ((SimpleHeatStorage) storage).setAmount(Math.max(0, storage.getAmount() + change));
+        for (int link = 0; link < linkCount; link++) {
+            HeatStorage connectedStorage = this.linkStorages[link];
+            this.linkStorages[link] = null;
+            if (connectedStorage != null && this.linkTransfers[link] != 0) {
+                ((SimpleHeatStorage) connectedStorage).setAmount(Math.max(0, connectedStorage.getAmount() + this.linkTransfers[link]));
+            }
         }
 
         // Step 4: Apply dissipation to pipes
-        for (HeatStorage pipeStorage : this.pipeStorages.values()) {
-            double dissipation = pipeStorage.getAmount() / 100D; // Dissipate 1% of the heat every tick
-            ((SimpleHeatStorage) pipeStorage).setAmount(Math.max(0, pipeStorage.getAmount() - dissipation));
+        for (int pipe = 0; pipe < size; pipe++) {
+            double amount = Math.max(0, next[pipe]);
+            storages[pipe].setAmount(amount - amount / 100D); // Dissipate 1% of the heat every tick
         }
+
+        this.temperatures = next;
+        this.nextTemperatures = current;
     }
 
-    private static double calculateTransfer(HeatStorage a, HeatStorage b) {
-        return (a.getAmount() - b.getAmount()) / 10D; // Transfer 10% of the heat difference
+    private static double calculateTransfer(double a, double b) {
+        return (a - b) / 10D; // Transfer 10% of the heat difference
     }
 }
@@ -42,29 +42,27 @@ public record MixerRecipe(List<IndustriaIngredient> inputs, FluidStack inputFlui
         if(!input.fluidStack().matches(this.inputFluid) || input.temperature() < this.minTemp || input.temperature() > this.maxTemp)
             return false;
 
-        List<IndustriaIngredient> remainingIngredients = new ArrayList<>(this.inputs);
-        List<ItemStack> presentItems = new ArrayList<>();
-
-        for (int i = 0; i < input.size(); i++) {
-            ItemStack stack = input.getStackInSlot(i);
-            if (!stack.isEmpty()) {
-                presentItems.stream()
-                        .filter(itemStack -> itemStack.isOf(stack.getItem()))
-                        .findFirst()
-                        .ifPresentOrElse(
-                                stack1 -> stack1.copyWithCount(stack.getCount() + 1),
-                                () -> presentItems.add(stack));
-            }
-        }
-
-        if (presentItems.size() != this.inputs.size())
+        // Every distinct item in the input has to match a different ingredient. The first stack of each item is
+        // matched against the ingredients that are still unused, which are tracked as bits so nothing is allocated
+        int ingredientCount = this.inputs.size();
+        if (ingredientCount > Long.SIZE)
             return false;
 
-        for (ItemStack stack : presentItems) {
+        long usedIngredients = 0L;
+        int presentItems = 0;
+        for (int slot = 0; slot < input.size(); slot++) {
+            ItemStack stack = input.getStackInSlot(slot);
+            if (stack.isEmpty() || isRepeatedItem(input, slot, stack))
+                continue;
+
+            if (++presentItems > ingredientCount)
+                return false;
+
             boolean matched = false;
-            for (IndustriaIngredient ingredient : remainingIngredients) {
-                if (ingredient.testForRecipe(stack)) {
-                    remainingIngredients.remove(ingredient);
+            for (int index = 0; index < ingredientCount; index++) {
+                long bit = 1L << index;
+                if ((usedIngredients & bit) == 0 && this.inputs.get(index).testForRecipe(stack)) {
+                    usedIngredients |= bit;
                     matched = true;
                     break;
                 }
@@ -74,7 +72,17 @@ public record MixerRecipe(List<IndustriaIngredient> inputs, FluidStack inputFlui
                 return false;
         }
 
-        return remainingIngredients.isEmpty();
+        return presentItems == ingredientCount;
+    }
+
+    private static boolean isRepeatedItem(MixerRecipeInput input, int slot, ItemStack stack) {
+        for (int previous = 0; previous < slot; previous++) {
+            ItemStack previousStack = input.getStackInSlot(previous);
+            if (!previousStack.isEmpty() && previousStack.isOf(stack.getItem()))
+                return true;
+        }
+
+        return false;
     }
 
     @Override
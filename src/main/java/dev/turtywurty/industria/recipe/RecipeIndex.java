@@ -0,0 +1,163 @@
+package dev.turtywurty.industria.recipe;
+
+import dev.turtywurty.industria.util.IndustriaIngredient;
+import net.minecraft.item.Item;
+import net.minecraft.recipe.Recipe;
+import net.minecraft.recipe.RecipeEntry;
+import net.minecraft.recipe.RecipeType;
+import net.minecraft.recipe.ServerRecipeManager;
+import net.minecraft.recipe.input.RecipeInput;
+import net.minecraft.registry.entry.RegistryEntry;
+import net.minecraft.server.world.ServerWorld;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * An index over the recipes of one {@link RecipeType}, keyed by a single input (such as an item or a fluid variant)
+ * that every recipe of the type has to match.
+ * <p>
+ * Looking up a recipe only runs {@link Recipe#matches} on the recipes indexed under the key of the input, plus the
+ * recipes that could not be keyed, in the same order the recipe manager would try them. The index is built lazily
+ * from the recipe manager of the world and is rebuilt whenever the recipe manager changes or {@link #invalidateAll()}
+ * is called (after a datapack reload).
+ *
+ * @param <I> The type of recipe input.
+ * @param <R> The type of recipe.
+ */
+public class RecipeIndex<I extends RecipeInput, R extends Recipe<I>> {
+    private static final List<RecipeIndex<?, ?>> INDEXES = new ArrayList<>();
+    private static volatile int reloadGeneration;
+
+    private final RecipeType<R> type;
+    private final Function<R, Collection<?>> recipeKeys;
+    private final Function<I, ?> inputKey;
+
+    private final Map<Object, List<RecipeEntry<R>>> candidates = new HashMap<>();
+    private List<RecipeEntry<R>> unkeyed = List.of();
+    private @Nullable ServerRecipeManager recipeManager;
+
+    private RecipeIndex(RecipeType<R> type, Function<R, Collection<?>> recipeKeys, Function<I, ?> inputKey) {
+        this.type = type;
+        this.recipeKeys = recipeKeys;
+        this.inputKey = inputKey;
+    }
+
+    /**
+     * Creates an index for a recipe type.
+     *
+     * @param type       The recipe type to index.
+     * @param recipeKeys The keys a recipe can match. A recipe that returns no keys is tried for every input.
+     * @param inputKey   The key of an input. A recipe can only match the input if this is one of its keys.
+     * @return The index.
+     */
+    public static <I extends RecipeInput, R extends Recipe<I>> RecipeIndex<I, R> create(RecipeType<R> type, Function<R, Collection<?>> recipeKeys, Function<I, ?> inputKey) {
+        var index = new RecipeIndex<>(type, recipeKeys, inputKey);
+        synchronized (INDEXES) {
+            INDEXES.add(index);
+        }
+
+        return index;
+    }
+
+    /**
+     * Drops every index, so that they are rebuilt from the current recipes on their next lookup.
+     */
+    public static void invalidateAll() {
+        synchronized (INDEXES) {
+            for (RecipeIndex<?, ?> index : INDEXES) {
+                index.invalidate();
+            }
+
+            reloadGeneration++;
+        }
+    }
+
+    /**
+     * @return A number that changes every time the indexes are invalidated, so that cached lookups know to redo them.
+     */
+    public static int getReloadGeneration() {
+        return reloadGeneration;
+    }
+
+    /**
+     * @return The items of an ingredient, for use as recipe keys.
+     */
+    public static Collection<?> items(IndustriaIngredient ingredient) {
+        List<Item> items = new ArrayList<>(ingredient.entries().size());
+        for (RegistryEntry<Item> entry : ingredient.entries()) {
+            items.add(entry.value());
+        }
+
+        return items;
+    }
+
+    /**
+     * Finds the first recipe that matches the input, like {@link ServerRecipeManager#getFirstMatch}.
+     *
+     * @param input The recipe input.
+     * @param world The world the recipe is being crafted in.
+     * @return The first matching recipe, if any.
+     */
+    public Optional<RecipeEntry<R>> getFirstMatch(I input, ServerWorld world) {
+        if (input.isEmpty())
+            return Optional.empty();
+
+        ServerRecipeManager recipeManager = world.getRecipeManager();
+        if (this.recipeManager != recipeManager) {
+            rebuild(recipeManager);
+        }
+
+        List<RecipeEntry<R>> candidates = this.candidates.getOrDefault(this.inputKey.apply(input), this.unkeyed);
+        for (RecipeEntry<R> entry : candidates) {
+            if (entry.value().matches(input, world))
+                return Optional.of(entry);
+        }
+
+        return Optional.empty();
+    }
+
+    public void invalidate() {
+        this.recipeManager = null;
+        this.candidates.clear();
+        this.unkeyed = List.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void rebuild(ServerRecipeManager recipeManager) {
+        invalidate();
+
+        // The recipes that cannot be keyed have to be tried for every input, so they are merged into every
+        // candidate list in recipe manager order
+        List<RecipeEntry<R>> unkeyed = new ArrayList<>();
+        for (RecipeEntry<?> entry : recipeManager.values()) {
+            if (entry.value().getType() != this.type)
+                continue;
+
+            var recipeEntry = (RecipeEntry<R>) entry;
+            Collection<?> keys = this.recipeKeys.apply(recipeEntry.value());
+            if (keys.isEmpty()) {
+                unkeyed.add(recipeEntry);
+                for (List<RecipeEntry<R>> candidates : this.candidates.values()) {
+                    candidates.add(recipeEntry);
+                }
+
+                continue;
+            }
+
+            for (Object key : new HashSet<>(keys)) {
+                List<RecipeEntry<R>> candidates = this.candidates.get(key);
+                if (candidates == null) {
+                    candidates = new ArrayList<>(unkeyed);
+                    this.candidates.put(key, candidates);
+                }
+
+                candidates.add(recipeEntry);
+            }
+        }
+
+        this.unkeyed = unkeyed;
+        this.recipeManager = recipeManager;
+    }
+}
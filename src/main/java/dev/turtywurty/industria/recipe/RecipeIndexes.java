@@ -0,0 +1,58 @@
+package dev.turtywurty.industria.recipe;
+
+import dev.turtywurty.industria.blockentity.util.inventory.RecipeSimpleInventory;
+import dev.turtywurty.industria.init.RecipeTypeInit;
+import dev.turtywurty.industria.recipe.input.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link RecipeIndex} of each machine recipe type in {@link RecipeTypeInit}.
+ */
+public class RecipeIndexes {
+    public static final RecipeIndex<RecipeSimpleInventory, AlloyFurnaceRecipe> ALLOY_FURNACE =
+            RecipeIndex.create(RecipeTypeInit.ALLOY_FURNACE,
+                    recipe -> {
+                        // Either stack can be either input
+                        List<Object> items = new ArrayList<>(RecipeIndex.items(recipe.inputA()));
+                        items.addAll(RecipeIndex.items(recipe.inputB()));
+                        return items;
+                    },
+                    input -> input.getStack(0).getItem());
+
+    public static final RecipeIndex<RecipeSimpleInventory, CrusherRecipe> CRUSHER =
+            RecipeIndex.create(RecipeTypeInit.CRUSHER,
+                    recipe -> RecipeIndex.items(recipe.input()),
+                    input -> input.getStack(0).getItem());
+
+    public static final RecipeIndex<MixerRecipeInput, MixerRecipe> MIXER =
+            RecipeIndex.create(RecipeTypeInit.MIXER,
+                    recipe -> List.of(recipe.inputFluid().variant()),
+                    input -> input.fluidStack().variant());
+
+    public static final RecipeIndex<DigesterRecipeInput, DigesterRecipe> DIGESTER =
+            RecipeIndex.create(RecipeTypeInit.DIGESTER,
+                    recipe -> List.of(recipe.inputSlurry().variant()),
+                    input -> input.slurryStack().variant());
+
+    public static final RecipeIndex<ClarifierRecipeInput, ClarifierRecipe> CLARIFIER =
+            RecipeIndex.create(RecipeTypeInit.CLARIFIER,
+                    recipe -> List.of(recipe.inputFluid().variant()),
+                    input -> input.fluidStack().variant());
+
+    public static final RecipeIndex<CrystallizerRecipeInput, CrystallizerRecipe> CRYSTALLIZER =
+            RecipeIndex.create(RecipeTypeInit.CRYSTALLIZER,
+                    recipe -> List.of(recipe.crystalFluid().variant()),
+                    input -> input.crystalFluid().variant());
+
+    public static final RecipeIndex<SingleItemStackRecipeInput, RotaryKilnRecipe> ROTARY_KILN =
+            RecipeIndex.create(RecipeTypeInit.ROTARY_KILN,
+                    recipe -> RecipeIndex.items(recipe.input()),
+                    input -> input.stack().getItem());
+
+    public static final RecipeIndex<ElectrolyzerRecipeInput, ElectrolyzerRecipe> ELECTROLYZER =
+            RecipeIndex.create(RecipeTypeInit.ELECTROLYZER,
+                    recipe -> RecipeIndex.items(recipe.input()),
+                    input -> input.getStackInSlot(0).getItem());
+}
@@ -0,0 +1,88 @@
+package dev.turtywurty.industria.util;
+
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * A {@link java.util.Set} of {@link BlockPos} that stores each position as a packed {@link BlockPos#asLong()} in a
+ * {@link LongOpenHashSet}, so no {@link BlockPos} objects are retained. Positions are only created while iterating.
+ * <p>
+ * This is not thread-safe and is meant for data that is only touched from a single (server or client) thread.
+ */
+public class BlockPosLongSet extends AbstractSet<BlockPos> {
+    private final LongOpenHashSet positions;
+
+    public BlockPosLongSet() {
+        this.positions = new LongOpenHashSet();
+    }
+
+    public BlockPosLongSet(Collection<BlockPos> positions) {
+        this.positions = new LongOpenHashSet(positions.size());
+        addAll(positions);
+    }
+
+    public LongOpenHashSet getPositions() {
+        return this.positions;
+    }
+
+    public boolean contains(long pos) {
+        return this.positions.contains(pos);
+    }
+
+    @Override
+    public boolean contains(Object obj) {
+        return obj instanceof BlockPos pos && this.positions.contains(pos.asLong());
+    }
+
+    @Override
+    public boolean add(BlockPos pos) {
+        return this.positions.add(pos.asLong());
+    }
+
+    @Override
+    public boolean remove(Object obj) {
+        return obj instanceof BlockPos pos && this.positions.remove(pos.asLong());
+    }
+
+    @Override
+    public int size() {
+        return this.positions.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.positions.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        this.positions.clear();
+    }
+
+    @Override
+    public @NotNull Iterator<BlockPos> iterator() {
+        LongIterator iterator = this.positions.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public BlockPos next() {
+                return BlockPos.fromLong(iterator.nextLong());
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+            }
+        };
+    }
+}
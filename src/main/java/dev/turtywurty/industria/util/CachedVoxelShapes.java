@@ -1,32 +1,131 @@
 package dev.turtywurty.industria.util;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.registry.RegistryKey;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
 import net.minecraft.util.shape.VoxelShape;
+import net.minecraft.util.shape.VoxelShapes;
+import net.minecraft.world.World;
 import net.minecraft.world.WorldView;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
-public class CachedVoxelShapes {
-    private final VoxelShapeFactory factory;
-    private final Map<WorldView, Map<BlockPos, VoxelShape>> cache = new ConcurrentHashMap<>();
+/**
+ * A cache of voxel shapes per dimension, keyed by packed chunk and block position.
+ * <p>
+ * Every entry remembers the key it was created from. An entry is only rebuilt when the key at its position changes
+ * or when it is invalidated, so the cache can live for as long as the world does. Client and server worlds are
+ * cached separately. Views that are not a {@link World} (such as chunk regions) are never cached.
+ *
+ * @param <K> The type of key that determines the shape at a position.
+ */
+public class CachedVoxelShapes<K> {
+    private final KeyFunction<K> keyFunction;
+    private final VoxelShapeFactory<K> factory;
+    private final Map<RegistryKey<World>, Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Entry<K>>>> serverCache = new ConcurrentHashMap<>();
+    private final Map<RegistryKey<World>, Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Entry<K>>>> clientCache = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
 
-    public CachedVoxelShapes(VoxelShapeFactory factory) {
+    public CachedVoxelShapes(KeyFunction<K> keyFunction, VoxelShapeFactory<K> factory) {
+        this.keyFunction = keyFunction;
         this.factory = factory;
     }
 
     public VoxelShape getShape(WorldView world, BlockPos pos) {
-        return this.cache.computeIfAbsent(world, w -> new HashMap<>())
-                .computeIfAbsent(pos, p -> this.factory.create(world, p));
+        K key = this.keyFunction.getKey(world, pos);
+        if (key == null)
+            return VoxelShapes.empty();
+
+        if (!(world instanceof World cachedWorld)) {
+            this.misses.increment();
+            return this.factory.create(world, pos, key);
+        }
+
+        Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Entry<K>>> chunks = getChunks(cachedWorld);
+        long chunkPos = ChunkPos.toLong(pos);
+        long packedPos = pos.asLong();
+        synchronized (chunks) {
+            Long2ObjectOpenHashMap<Entry<K>> entries = chunks.get(chunkPos);
+            if (entries != null) {
+                Entry<K> entry = entries.get(packedPos);
+                if (entry != null && entry.key().equals(key)) {
+                    this.hits.increment();
+                    return entry.shape();
+                }
+            }
+        }
+
+        this.misses.increment();
+        VoxelShape shape = this.factory.create(world, pos, key);
+        synchronized (chunks) {
+            Long2ObjectOpenHashMap<Entry<K>> entries = chunks.get(chunkPos);
+            if (entries == null) {
+                entries = new Long2ObjectOpenHashMap<>();
+                chunks.put(chunkPos, entries);
+            }
+
+            entries.put(packedPos, new Entry<>(key, shape));
+        }
+
+        return shape;
+    }
+
+    public void invalidate(World world, BlockPos pos) {
+        Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Entry<K>>> chunks = getChunks(world);
+        long chunkPos = ChunkPos.toLong(pos);
+        synchronized (chunks) {
+            Long2ObjectOpenHashMap<Entry<K>> entries = chunks.get(chunkPos);
+            if (entries != null && entries.remove(pos.asLong()) != null && entries.isEmpty()) {
+                chunks.remove(chunkPos);
+            }
+        }
+    }
+
+    public void invalidateChunk(World world, ChunkPos chunkPos) {
+        Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Entry<K>>> chunks = getChunks(world);
+        synchronized (chunks) {
+            chunks.remove(chunkPos.toLong());
+        }
+    }
+
+    public void clear(World world) {
+        (world.isClient() ? this.clientCache : this.serverCache).remove(world.getRegistryKey());
     }
 
-    public void clear() {
-        this.cache.clear();
+    public void clearClient() {
+        this.clientCache.clear();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    private Long2ObjectOpenHashMap<Long2ObjectOpenHashMap<Entry<K>>> getChunks(World world) {
+        return (world.isClient() ? this.clientCache : this.serverCache)
+                .computeIfAbsent(world.getRegistryKey(), key -> new Long2ObjectOpenHashMap<>());
+    }
+
+    private record Entry<K>(K key, VoxelShape shape) {}
+
+    @FunctionalInterface
+    public interface KeyFunction<K> {
+        /**
+         * @return The key that determines the shape at the position, or {@code null} if there is no shape.
+         */
+        @Nullable K getKey(WorldView world, BlockPos pos);
     }
 
     @FunctionalInterface
-    public interface VoxelShapeFactory {
-        VoxelShape create(WorldView world, BlockPos pos);
+    public interface VoxelShapeFactory<K> {
+        VoxelShape create(WorldView world, BlockPos pos, K key);
     }
 }
@@ -2,9 +2,11 @@ package dev.turtywurty.industria.util;
 
 import com.mojang.datafixers.util.*;
 import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.DecoderException;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.encoding.VarInts;
 import net.minecraft.registry.Registries;
 import net.minecraft.util.collection.Pool;
 import net.minecraft.util.collection.Weighted;
@@ -24,6 +26,25 @@ public class ExtraPacketCodecs {
     private static final Map<FloatProviderType<?>, PacketCodec<RegistryByteBuf, ? extends FloatProvider>> FLOAT_PROVIDER_CODECS = new HashMap<>();
 
     public static final PacketCodec<ByteBuf, Set<BlockPos>> BLOCK_POS_SET_PACKET_CODEC = setOf(BlockPos.PACKET_CODEC);
+    public static final PacketCodec<ByteBuf, long[]> LONG_ARRAY_PACKET_CODEC = PacketCodec.ofStatic(
+            (buf, array) -> {
+                VarInts.write(buf, array.length);
+                for (long value : array) {
+                    buf.writeLong(value);
+                }
+            },
+            buf -> {
+                int length = VarInts.read(buf);
+                if (length < 0 || length > buf.readableBytes() / Long.BYTES)
+                    throw new DecoderException("Long array length " + length + " is larger than the remaining bytes allow");
+
+                long[] array = new long[length];
+                for (int i = 0; i < length; i++) {
+                    array[i] = buf.readLong();
+                }
+
+                return array;
+            });
 
     public static <B extends ByteBuf, V> PacketCodec<B, Set<V>> setOf(PacketCodec<? super B, V> codec) {
         return PacketCodecs.collection(HashSet::new, codec);
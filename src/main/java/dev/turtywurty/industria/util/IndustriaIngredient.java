@@ -51,20 +51,19 @@ public record IndustriaIngredient(RegistryEntryList<Item> entries, StackData sta
     }
 
     public boolean testForRecipe(ItemStack stack) {
-        return test(stack, countLessThanOrEquals(stack.getCount()));
+        return matchesItem(stack) &&
+                this.stackData.count() <= stack.getCount() &&
+                matchesComponents(stack);
     }
 
     public boolean testForRecipeIgnoreComponents(ItemStack stack) {
-        return this.entries.stream().anyMatch(item ->
-                stack.getItem() == item.value() &&
-                        this.stackData.count() >= stack.getCount());
+        return matchesItem(stack) && this.stackData.count() >= stack.getCount();
     }
 
     public boolean test(ItemStack stack, boolean matchCount, boolean matchComponents) {
-        return this.entries.stream().anyMatch(item ->
-                stack.getItem() == item.value() &&
-                        (!matchCount || stack.getCount() == this.stackData.count()) &&
-                        (!matchComponents || this.stackData.components().equals(stack.getComponentChanges())));
+        return matchesItem(stack) &&
+                (!matchCount || stack.getCount() == this.stackData.count()) &&
+                (!matchComponents || matchesComponents(stack));
     }
 
     public boolean test(ItemStack stack) {
@@ -72,10 +71,23 @@ public record IndustriaIngredient(RegistryEntryList<Item> entries, StackData sta
     }
 
     public boolean test(ItemStack stack, Predicate<Integer> countPredicate) {
-        return this.entries.stream().anyMatch(item ->
-                stack.getItem() == item.value() &&
-                        countPredicate.test(stackData().count()) &&
-                        this.stackData.components().equals(stack.getComponentChanges()));
+        return matchesItem(stack) &&
+                countPredicate.test(this.stackData.count()) &&
+                matchesComponents(stack);
+    }
+
+    /**
+     * Checks the item of the stack the same way {@link Ingredient#test} does: the entry list keeps a set of its
+     * entries (or, for a tag, the entry knows its tags), so this does not iterate or allocate.
+     */
+    private boolean matchesItem(ItemStack stack) {
+        return this.entries.contains(stack.getRegistryEntry());
+    }
+
+    private boolean matchesComponents(ItemStack stack) {
+        // Most ingredients have no components, and a stack without changes returns the shared empty instance
+        ComponentChanges components = this.stackData.components();
+        return components.isEmpty() ? stack.getComponentChanges().isEmpty() : components.equals(stack.getComponentChanges());
     }
 
     public static Predicate<Integer> countEquals(int count) {
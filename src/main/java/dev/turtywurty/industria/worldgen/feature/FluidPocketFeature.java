@@ -7,12 +7,10 @@ import net.minecraft.fluid.FluidState;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.random.Random;
-import net.minecraft.world.ChunkRegion;
 import net.minecraft.world.WorldAccess;
 import net.minecraft.world.gen.feature.Feature;
 import net.minecraft.world.gen.feature.util.FeatureContext;
 
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -37,17 +35,6 @@ public class FluidPocketFeature extends Feature<FluidPocketConfig> {
         if(random.nextInt(100) < 50)
             return false;
 
-        ServerWorld serverWorld;
-        if(!(world instanceof ServerWorld)) {
-            if (world instanceof ChunkRegion) {
-                serverWorld = ((ChunkRegion) world).toServerWorld();
-            } else {
-                return false;
-            }
-        } else {
-            serverWorld = (ServerWorld) world;
-        }
-
         Set<BlockPos> positions = new HashSet<>();
         // Define the base radius and depth of the pond
         int baseRadius = config.radius().get(random);
@@ -73,11 +60,12 @@ public class FluidPocketFeature extends Feature<FluidPocketConfig> {
             }
         }
 
-        var pocket = new WorldFluidPocketsState.FluidPocket(fluidState, new ArrayList<>(positions));
-        WorldFluidPocketsState.getServerState(serverWorld).addFluidPocket(pocket);
-        WorldFluidPocketsState.sync(serverWorld);
-
-        System.out.println("Generated fluid pocket at " + origin);
+        var pocket = new WorldFluidPocketsState.FluidPocket(fluidState, positions);
+        if (world instanceof ServerWorld serverWorld) {
+            WorldFluidPocketsState.getServerState(serverWorld).addFluidPocket(serverWorld, pocket);
+        } else {
+            WorldFluidPocketsState.attachToChunks(world, pocket);
+        }
 
         return true;
     }